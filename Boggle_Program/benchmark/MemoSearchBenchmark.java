@@ -0,0 +1,216 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+import model.Board;
+import model.BoardGenerator;
+import model.BoardSolver;
+import model.Dictionary;
+import utilities.WordGraph;
+
+/***************************************************************************
+ * MemoSearchBenchmark - This class times the board searches with and
+ *       without the memo of explored states, on ordinary boards and on
+ *       boards with heavily repeated letters:
+ *
+ *       - random boards from the classic dice, solved against the given
+ *         dictionary, where the memo is only overhead;
+ *       - 4x4 boards of mostly 'e' with a few 's', solved against every
+ *         word of 3 to 12 of those letters, so every prefix is alive on
+ *         every path;
+ *       - isWordOnBoard on a 5x5 board of 'e' split in two by a column of
+ *         'x', asked for a word of 11 'e's that only fits if the halves
+ *         were joined, so every path has to be tried.
+ *
+ *       Run with the dictionary file name as the only argument.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class MemoSearchBenchmark
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int ROUNDS = 3;   // the best round is reported
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * main - This method runs the benchmark.
+    *
+    * @return none
+    * @param String[]
+    ************************************************************************/
+   public static void main (String[] args)
+   {
+      String dictionaryFileName = (args.length > 0) ? args[0]
+            : "dictionary.txt";
+      Dictionary dictionary = new Dictionary (dictionaryFileName);
+
+      Board[] randomBoards = new Board[2000];
+      Iterator<Board> generator = BoardGenerator.withClassicDice (1);
+
+      for (int i = 0; i < randomBoards.length; i++)
+      {
+         randomBoards[i] = generator.next ();
+      }
+      timeSolve ("Classic dice, 4x4", dictionary.getWordGraph (),
+            randomBoards);
+
+      Board[] repeatedBoards = new Board[8];
+      SplittableRandom random = new SplittableRandom (2);
+
+      for (int i = 0; i < repeatedBoards.length; i++)
+      {
+         char[][] cells = new char[4][4];
+
+         for (int row = 0; row < 4; row++)
+         {
+            for (int column = 0; column < 4; column++)
+            {
+               cells[row][column] = (random.nextInt (8) > 0) ? 'e' : 's';
+            }
+         }
+         repeatedBoards[i] = new Board (cells);
+      }
+      timeSolve ("Mostly 'e', 4x4", new WordGraph (twoLetterWords (12)),
+            repeatedBoards);
+
+      char[][] cells = new char[5][5];
+
+      for (int row = 0; row < 5; row++)
+      {
+         for (int column = 0; column < 5; column++)
+         {
+            cells[row][column] = (column == 2) ? 'x' : 'e';
+         }
+      }
+      timeWord ("Walled 'e', 5x5", new Board (cells), "eeeeeeeeeee");
+   } // main
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * timeSolve - This method solves the boards with and without the memo
+    *       and prints the best time per board of each.
+    *
+    * @return none
+    * @param String, WordGraph, Board[]
+    ************************************************************************/
+   private static void timeSolve (String name, WordGraph graph, Board[] boards)
+   {
+      BoardSolver solver = new BoardSolver (graph);
+      long[] best = {Long.MAX_VALUE, Long.MAX_VALUE};
+      long words = 0;
+
+      for (int round = 0; round < ROUNDS; round++)
+      {
+         for (int memoize = 0; memoize < 2; memoize++)
+         {
+            long start = System.nanoTime ();
+
+            for (Board board : boards)
+            {
+               words += solver.solve (board, memoize == 1).getWordCount ();
+            }
+            best[memoize] = Math.min (best[memoize],
+                  (System.nanoTime () - start) / boards.length);
+         }
+      }
+      report (name + " solve", best, words / (2 * ROUNDS * boards.length));
+   } // timeSolve
+
+   /************************************************************************
+    * timeWord - This method looks for the word on the board with and
+    *       without the memo and prints the best time of each.
+    *
+    * @return none
+    * @param String, Board, String
+    ************************************************************************/
+   private static void timeWord (String name, Board board, String word)
+   {
+      long[] best = {Long.MAX_VALUE, Long.MAX_VALUE};
+      boolean found = false;
+
+      for (int round = 0; round < ROUNDS; round++)
+      {
+         for (int memoize = 0; memoize < 2; memoize++)
+         {
+            long start = System.nanoTime ();
+
+            found = board.isWordOnBoard (word, memoize == 1);
+            best[memoize] = Math.min (best[memoize],
+                  System.nanoTime () - start);
+         }
+      }
+      report (name + " isWordOnBoard", best, found ? 1 : 0);
+   } // timeWord
+
+   /************************************************************************
+    * report - This method prints the times without and with the memo.
+    *
+    * @return none
+    * @param String, long[], long
+    ************************************************************************/
+   private static void report (String name, long[] best, long words)
+   {
+      System.out.printf ("%-34s %12.1f us plain %12.1f us memo %7.1fx"
+            + " (%d words)%n", name, best[0] / 1e3, best[1] / 1e3,
+            (double) best[0] / best[1], words);
+   } // report
+
+   /************************************************************************
+    * twoLetterWords - This method returns, in alphabetical order, every
+    *       word of 3 up to the given number of 'e's and 's's.
+    *
+    * @return ArrayList<String>
+    * @param int
+    ************************************************************************/
+   private static ArrayList<String> twoLetterWords (int maxLength)
+   {
+      ArrayList<String> words = new ArrayList<String> ();
+
+      addWords ("", maxLength, words);
+      return words;
+   } // twoLetterWords
+
+   /************************************************************************
+    * addWords - This method adds the words starting with the prefix in
+    *       alphabetical order.
+    *
+    * @return none
+    * @param String, int, ArrayList<String>
+    ************************************************************************/
+   private static void addWords (String prefix, int maxLength,
+         ArrayList<String> words)
+   {
+      if (prefix.length () >= 3)
+      {
+         words.add (prefix);
+      }
+
+      if (prefix.length () < maxLength)
+      {
+         addWords (prefix + "e", maxLength, words);
+         addWords (prefix + "s", maxLength, words);
+      }
+   } // addWords
+
+} // MemoSearchBenchmark
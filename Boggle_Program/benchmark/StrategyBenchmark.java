@@ -0,0 +1,203 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import model.Board;
+import model.BoardGenerator;
+import model.BoardSolver;
+import utilities.TextIO;
+import utilities.WordGraph;
+
+/***************************************************************************
+ * StrategyBenchmark - This class times the board-driven and word-driven
+ *       solves on word lists of growing size, to find the number of words
+ *       at which the board-driven search starts to win. For each word list
+ *       given, random samples of 25, 50, 100 ... words up to the whole list
+ *       are solved on random 4x4, 5x5 and 6x6 boards with each strategy,
+ *       and the strategy chooseStrategy picks is shown next to the faster
+ *       one. Both strategies are run on the whole list first, so the
+ *       first samples are not timed before the code has been compiled.
+ *
+ *       Run with the word list file names as arguments, for example the
+ *       learned dictionary.txt and a full word list.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class StrategyBenchmark
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int ROUNDS = 7;   // the best round is reported
+   private static final int BOARDS = 200;
+   private static final int FIRST_SAMPLE = 25;
+   private static final long TIME_LIMIT = 200000000L; // per strategy, ns
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * main - This method runs the benchmark.
+    *
+    * @return none
+    * @param String[]
+    ************************************************************************/
+   public static void main (String[] args)
+   {
+      String[] fileNames = (args.length > 0) ? args
+            : new String[] { "dictionary.txt" };
+
+      for (String fileName : fileNames)
+      {
+         ArrayList<String> words = new TextIO ().readWordList (fileName);
+
+         System.out.println (fileName + ": " + words.size () + " words");
+
+         for (int size = Board.DEFAULT_SIZE; size <= 6; size++)
+         {
+            findCrossover (words, size);
+         }
+      }
+   } // main
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * findCrossover - This method times both strategies on samples of the
+    *       words of growing size, on boards of the given size, and prints
+    *       the first sample size at which the board-driven solve is faster
+    *       after being slower, if there is one.
+    *
+    * @return none
+    * @param ArrayList<String>, int
+    ************************************************************************/
+   private static void findCrossover (ArrayList<String> words, int size)
+   {
+      Board[] boards = new Board[BOARDS];
+      Iterator<Board> generator = new BoardGenerator (1, size, size);
+      int crossover = -1;
+      int wordFaster = -1;   // largest sample word-driven won so far
+
+      for (int i = 0; i < boards.length; i++)
+      {
+         boards[i] = generator.next ();
+      }
+      Collections.shuffle (words, new Random (2));
+      warmUp (words, boards);
+
+      for (int sample = FIRST_SAMPLE; sample < 2 * words.size ();
+            sample *= 2)
+      {
+         List<String> sampleWords = new ArrayList<String> (words.subList (0,
+               Math.min (sample, words.size ())));
+
+         Collections.sort (sampleWords);
+
+         BoardSolver solver = new BoardSolver (new WordGraph (
+               sampleWords));
+         long boardNanos = time (solver, BoardSolver.BOARD_DRIVEN, boards);
+         long wordNanos = time (solver, BoardSolver.WORD_DRIVEN, boards);
+         int chosen = solver.chooseStrategy (boards[0]);
+
+         System.out.printf ("  %dx%d %7d words %10.1f us board %10.1f us"
+               + " word  faster %-5s chose %s%n", size, size,
+               sampleWords.size (), boardNanos / 1e3, wordNanos / 1e3,
+               (boardNanos < wordNanos) ? "board" : "word",
+               (chosen == BoardSolver.BOARD_DRIVEN) ? "board" : "word");
+
+         if (boardNanos >= wordNanos)
+         {
+            wordFaster = sampleWords.size ();
+         }
+         else if (crossover < 0 && wordFaster > 0)
+         {
+            crossover = sampleWords.size ();
+         }
+      }
+      System.out.print ("  " + size + "x" + size + " ");
+
+      if (crossover > 0)
+      {
+         System.out.println ("crossover at about " + crossover + " words");
+      }
+      else if (wordFaster > 0)
+      {
+         System.out.println ("no crossover: word-driven was faster on every"
+               + " sample");
+      }
+      else
+      {
+         System.out.println ("no crossover at or above " + FIRST_SAMPLE
+               + " words: board-driven was faster on every sample");
+      }
+   } // findCrossover
+
+   /************************************************************************
+    * time - This method returns the best time per board of solving the
+    *       boards with the given strategy, stopping early on slow runs.
+    *
+    * @return long
+    * @param BoardSolver, int, Board[]
+    ************************************************************************/
+   private static long time (BoardSolver solver, int strategy,
+         Board[] boards)
+   {
+      long best = Long.MAX_VALUE;
+
+      solver.setStrategy (strategy);
+
+      for (int round = 0; round < ROUNDS; round++)
+      {
+         long start = System.nanoTime ();
+         int solved = 0;
+
+         while (solved < boards.length
+               && System.nanoTime () - start < TIME_LIMIT)
+         {
+            solver.solve (boards[solved]);
+            solved++;
+         }
+         best = Math.min (best, (System.nanoTime () - start) / solved);
+      }
+      solver.setStrategy (BoardSolver.AUTOMATIC);
+      return best;
+   } // time
+
+   /************************************************************************
+    * warmUp - This method solves the boards with both strategies against
+    *       the whole word list, untimed.
+    *
+    * @return none
+    * @param ArrayList<String>, Board[]
+    ************************************************************************/
+   private static void warmUp (ArrayList<String> words, Board[] boards)
+   {
+      List<String> sortedWords = new ArrayList<String> (words);
+
+      Collections.sort (sortedWords);
+
+      BoardSolver solver = new BoardSolver (new WordGraph (sortedWords));
+
+      time (solver, BoardSolver.BOARD_DRIVEN, boards);
+      time (solver, BoardSolver.WORD_DRIVEN, boards);
+   } // warmUp
+
+} // StrategyBenchmark
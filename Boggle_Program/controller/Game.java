@@ -1,6 +1,6 @@
 package controller;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 
 import utilities.StringSet;
 import model.Board;
@@ -8,6 +8,7 @@ import model.Dictionary;
 import model.HumanPlayer;
 import model.ComputerPlayer;
 import model.Player;
+import model.Scoring;
 
 /***************************************************************************
  * Game - This class keeps track of the Boggle round for the players.
@@ -24,7 +25,12 @@ import model.Player;
  * 
  *          None
  * 
- * Modifications: 12/04/2012 - Updated to support a graphical user interface.
+ * Modifications: 10/18/2026 - Publishes the words learned and rejected
+ *                             each round to the dictionary's readers.
+ *                10/18/2026 - Word lists are BitSets of dictionary word
+ *                             ordinals; wordAt gives the words for display.
+ *                10/18/2026 - Added a constructor for larger boards.
+ *                12/04/2012 - Updated to support a graphical user interface.
  *                10/28/2012 - Modified to initiate play for either a
  *                             human or computer player.
  *                10/11/2012 - added a Dictionary Object parameter to
@@ -36,6 +42,8 @@ public class Game
 {
    private int difficulty = 5;
    private int round = 0;
+   private int rows = Board.DEFAULT_SIZE;
+   private int columns = Board.DEFAULT_SIZE;
    
    private Board board;
    private Dictionary dictionary;
@@ -52,9 +60,22 @@ public class Game
     * @param Dictionary
     ************************************************************************/
    public Game (Dictionary dictionary)
+   {
+      this (dictionary, Board.DEFAULT_SIZE, Board.DEFAULT_SIZE);
+   } // Game
+
+   /************************************************************************
+    * Game - This method constructs a Boggle Game object played on boards
+    *       with the given number of rows and columns.
+    * 
+    * @param Dictionary, int, int
+    ************************************************************************/
+   public Game (Dictionary dictionary, int rows, int columns)
    {
       this.dictionary = dictionary;
-      board = new Board ();
+      this.rows = rows;
+      this.columns = columns;
+      board = new Board (rows, columns);
       humanPlayer = new HumanPlayer (dictionary, board);
       computerPlayer = new ComputerPlayer (dictionary, board);
       currentPlayer = humanPlayer;
@@ -76,21 +97,21 @@ public class Game
    } // addWords
 
    /************************************************************************
-    * computerTurn - This method causes the computer to find words.
+    * computerTurn - This method causes the computer to find words. The
+    *       words the player taught the dictionary this round are published
+    *       first so the computer knows them.
     * 
     * @return none
     * @param none
     ************************************************************************/
    public void computerTurn ()
    {
-      StringSet wordsOnBoard = board.dictionaryWordsOnBoard (dictionary);
-      ArrayList <String> wordsFound = wordsOnBoard.getWordList ();
+      dictionary.publishChanges ();
+
+      BitSet wordsOnBoard = board.dictionaryOrdinalsOnBoard (dictionary,
+            true);
       currentPlayer = computerPlayer;
-      
-      for (String word : wordsFound)
-      {
-         currentPlayer.addWords (word);
-      }
+      computerPlayer.addWords (wordsOnBoard);
    } // computerTurn
    
    /************************************************************************
@@ -116,12 +137,13 @@ public class Game
    } // getComputerTotalScore
 
    /************************************************************************
-    * getComputerWordsFound - This method returns the computer's words.
+    * getComputerWordsFound - This method returns the computer's words, as
+    *       dictionary ordinals.
     * 
-    * @return StringSet
+    * @return BitSet
     * @param none
     ************************************************************************/
-   public StringSet getComputerWordsFound ()
+   public BitSet getComputerWordsFound ()
    {
       return computerPlayer.getWords ();
    } // getComputerWordsFound
@@ -130,10 +152,10 @@ public class Game
     * getComputerWordsRejected - This method returns the computer words
     *       rejected by the user.
     * 
-    * @return String
+    * @return BitSet
     * @param none
     ************************************************************************/
-   public StringSet getComputerWordsRejected ()
+   public BitSet getComputerWordsRejected ()
    {
       return computerPlayer.getRejectedWords ();
    } // getComputerWordsRejected
@@ -150,12 +172,13 @@ public class Game
    } // getHumanTotalScore
 
    /************************************************************************
-    * getHumanWordsFound - This method returns the human player's words.
+    * getHumanWordsFound - This method returns the human player's words, as
+    *       dictionary ordinals.
     * 
-    * @return StringSet
+    * @return BitSet
     * @param none
     ************************************************************************/
-   public StringSet getHumanWordsFound ()
+   public BitSet getHumanWordsFound ()
    {
       return humanPlayer.getWords ();
    } // getHumanWordsFound
@@ -164,10 +187,10 @@ public class Game
     * getHumanWordsRejected - This method returns the human words rejected
     *       by the user.
     * 
-    * @return StringSet
+    * @return BitSet
     * @param none
     ************************************************************************/
-   public StringSet getHumanWordsRejected ()
+   public BitSet getHumanWordsRejected ()
    {
       return humanPlayer.getRejectedWords ();
    } // getHumanWordsRejected
@@ -198,12 +221,12 @@ public class Game
 
    /************************************************************************
     * getRoundScore - This method returns the round scores of a set of 
-    *       words.
+    *       words given as dictionary ordinals.
     * 
     * @return int
-    * @param StringSet
+    * @param BitSet
     ************************************************************************/
-   public int getRoundScore (StringSet wordSet)
+   public int getRoundScore (BitSet wordSet)
    {
       int score = calculateScore (wordSet);
       return score;
@@ -217,7 +240,7 @@ public class Game
     ************************************************************************/
    public void newGame ()
    {
-      board = new Board ();
+      board = new Board (rows, columns);
       humanPlayer = new HumanPlayer (dictionary, board);
       computerPlayer = new ComputerPlayer (dictionary, board);   
       currentPlayer = humanPlayer;
@@ -232,7 +255,7 @@ public class Game
    public void newRound ()
    {
       round++;
-      board = new Board ();
+      board = new Board (rows, columns);
       humanPlayer.newRound (board);
       computerPlayer.newRound (board);
       currentPlayer = humanPlayer;
@@ -248,6 +271,7 @@ public class Game
    {
       humanPlayer.rejectWords (wordsToReject);
       computerPlayer.rejectWords (wordsToReject);
+      dictionary.publishChanges ();
    } // rejectWords
 
    /************************************************************************
@@ -274,6 +298,18 @@ public class Game
       computerPlayer.setScore (computerScore);
    } // setScores
    
+   /************************************************************************
+    * wordAt - This method returns the word with the given dictionary
+    *       ordinal, for display.
+    * 
+    * @return String
+    * @param int
+    ************************************************************************/
+   public String wordAt (int ordinal)
+   {
+      return dictionary.wordAt (ordinal);
+   } // wordAt
+
    /************************************************************************
     * calculateScore - This method returns the score for a word list. The 
     *       score is calculated based on word length, as follows: 
@@ -286,35 +322,16 @@ public class Game
     *               >7          11
     * 
     * @return int
-    * @param StringSet
+    * @param BitSet
     ************************************************************************/
-   private int calculateScore (StringSet wordSet)
+   private int calculateScore (BitSet wordSet)
    {
       int score = 0;
-      ArrayList<String> foundWords = wordSet.getWordList ();
 
-      for (String word : foundWords)
+      for (int ordinal = wordSet.nextSetBit (0); ordinal >= 0;
+            ordinal = wordSet.nextSetBit (ordinal + 1))
       {
-         if (word.length () == 3 || word.length () == 4)
-         {
-            score += 1;
-         }
-         else if (word.length () == 5)
-         {
-            score += 2;
-         }
-         else if (word.length () == 6)
-         {
-            score += 3;
-         }
-         else if (word.length () == 7)
-         {
-            score += 5;
-         }
-         else if (word.length () > 7)
-         {
-            score += 11;
-         }
+         score += Scoring.wordScore (dictionary.wordAt (ordinal).length ());
       }
       return score;
    } // calculateScore
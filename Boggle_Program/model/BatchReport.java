@@ -0,0 +1,160 @@
+package model;
+
+import utilities.LatencyHistogram;
+
+/***************************************************************************
+ * BatchReport - This class summarizes a batch of boards solved by a
+ *       BatchSolver: how many boards, words and points were found, how
+ *       long the batch took, and the percentiles of the time taken to
+ *       solve each board.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class BatchReport
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final long boardCount;
+   private final long wordCount;
+   private final long totalScore;
+   private final long elapsedNanos;
+   private final int threads;
+   private final LatencyHistogram latencies;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * BatchReport - This method constructs a BatchReport.
+    *
+    * @param long, long, long, long, int, LatencyHistogram
+    ************************************************************************/
+   BatchReport (long boardCount, long wordCount, long totalScore,
+         long elapsedNanos, int threads, LatencyHistogram latencies)
+   {
+      this.boardCount = boardCount;
+      this.wordCount = wordCount;
+      this.totalScore = totalScore;
+      this.elapsedNanos = elapsedNanos;
+      this.threads = threads;
+      this.latencies = latencies;
+   } // BatchReport
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getBoardCount - This method returns the number of boards solved.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getBoardCount ()
+   {
+      return boardCount;
+   } // getBoardCount
+
+   /************************************************************************
+    * getBoardsPerSecond - This method returns the number of boards solved
+    *       per second of elapsed time.
+    *
+    * @return double
+    * @param none
+    ************************************************************************/
+   public double getBoardsPerSecond ()
+   {
+      return (elapsedNanos > 0) ? boardCount * 1e9 / elapsedNanos : 0;
+   } // getBoardsPerSecond
+
+   /************************************************************************
+    * getElapsedNanos - This method returns how long the batch took.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getElapsedNanos ()
+   {
+      return elapsedNanos;
+   } // getElapsedNanos
+
+   /************************************************************************
+    * getLatencies - This method returns the histogram of the time taken to
+    *       solve each board.
+    *
+    * @return LatencyHistogram
+    * @param none
+    ************************************************************************/
+   public LatencyHistogram getLatencies ()
+   {
+      return latencies;
+   } // getLatencies
+
+   /************************************************************************
+    * getThreads - This method returns the number of threads used.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getThreads ()
+   {
+      return threads;
+   } // getThreads
+
+   /************************************************************************
+    * getTotalScore - This method returns the total score of all boards.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getTotalScore ()
+   {
+      return totalScore;
+   } // getTotalScore
+
+   /************************************************************************
+    * getWordCount - This method returns the number of words found on all
+    *       boards.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getWordCount ()
+   {
+      return wordCount;
+   } // getWordCount
+
+   /************************************************************************
+    * toString - This method provides a string representation of the report.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      return String.format ("Solved %d boards in %.1f ms on %d threads "
+            + "(%.0f boards/s, %.0f boards/s per thread)%n"
+            + "Words %d, score %d%n"
+            + "Latency us: mean %.2f, p50 %.2f, p90 %.2f, p99 %.2f, "
+            + "p99.9 %.2f, max %.2f",
+            boardCount, elapsedNanos / 1e6, threads, getBoardsPerSecond (),
+            getBoardsPerSecond () / threads, wordCount, totalScore,
+            latencies.getMean () / 1e3, latencies.percentile (50) / 1e3,
+            latencies.percentile (90) / 1e3, latencies.percentile (99) / 1e3,
+            latencies.percentile (99.9) / 1e3, latencies.getMax () / 1e3);
+   } // toString
+
+} // BatchReport
@@ -0,0 +1,337 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import utilities.LatencyHistogram;
+import utilities.WordGraph;
+
+/***************************************************************************
+ * BatchSolver - This class solves a stream of boards on several threads,
+ *       for offline jobs that solve very large numbers of boards. Each
+ *       worker thread keeps its own BoardSolver and timing histogram for
+ *       the whole batch and takes boards from the stream in chunks, so the
+ *       threads rarely wait on each other. Each board's compact
+ *       SolveResult is passed to a ResultHandler, and a BatchReport with
+ *       the throughput and latency percentiles is returned when the batch
+ *       is finished. In multi-board mode each worker solves its chunk in
+ *       groups of MultiBoardSolver.MAX_BOARDS boards, each group sharing
+ *       one walk of the word graph.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class BatchSolver
+{
+
+   /*
+    * public interfaces***************************
+    */
+
+   /************************************************************************
+    * ResultHandler - This interface receives the result for each board.
+    *       It is called from the worker threads, so it must be thread safe.
+    *       The index is the board's position in the stream.
+    ************************************************************************/
+   public interface ResultHandler
+   {
+      void handleResult (long index, Board board, SolveResult result);
+   } // ResultHandler
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int CHUNK_SIZE = 256;
+
+   /*
+    * attributes*************
+    */
+
+   private final WordGraph graph;
+   private final int threads;
+   private boolean multiBoard = false;
+
+   private final Object streamLock = new Object ();
+   private Iterator<Board> boards;     // stream of the running batch
+   private long nextIndex;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * BatchSolver - This method constructs a BatchSolver using one thread
+    *       per available processor.
+    *
+    * @param Dictionary
+    ************************************************************************/
+   public BatchSolver (Dictionary dictionary)
+   {
+      this (dictionary, Runtime.getRuntime ().availableProcessors ());
+   } // BatchSolver
+
+   /************************************************************************
+    * BatchSolver - This method constructs a BatchSolver using the given
+    *       number of threads. The words in the dictionary when the solver
+    *       is made are used for every batch.
+    *
+    * @param Dictionary, int
+    ************************************************************************/
+   public BatchSolver (Dictionary dictionary, int threads)
+   {
+      graph = dictionary.getWordGraph ();
+      this.threads = Math.max (threads, 1);
+   } // BatchSolver
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * solve - This method solves every board in the stream and returns a
+    *       report once they have all been solved. The handler may be null
+    *       if only the report is wanted.
+    *
+    * @return BatchReport
+    * @param Stream<Board>, ResultHandler
+    ************************************************************************/
+   public BatchReport solve (Stream<Board> boards, ResultHandler handler)
+   {
+      return solve (boards.iterator (), handler);
+   } // solve
+
+   /************************************************************************
+    * solve - This method solves every board from the iterator and returns
+    *       a report once they have all been solved. The handler may be null
+    *       if only the report is wanted.
+    *
+    * @return BatchReport
+    * @param Iterator<Board>, ResultHandler
+    ************************************************************************/
+   public synchronized BatchReport solve (Iterator<Board> boards,
+         ResultHandler handler)
+   {
+      this.boards = boards;
+      nextIndex = 0;
+
+      Worker[] workers = new Worker[threads];
+      long start = System.nanoTime ();
+
+      for (int i = 0; i < threads; i++)
+      {
+         workers[i] = new Worker (handler, multiBoard);
+         workers[i].start ();
+      }
+
+      LatencyHistogram latencies = new LatencyHistogram ();
+      long wordCount = 0;
+      long totalScore = 0;
+      RuntimeException failure = null;
+
+      for (Worker worker : workers)
+      {
+         joinWorker (worker);
+         latencies.merge (worker.latencies);
+         wordCount += worker.wordCount;
+         totalScore += worker.totalScore;
+
+         if (failure == null && worker.failure != null)
+         {
+            failure = new IllegalStateException ("Batch solve failed",
+                  worker.failure);
+         }
+      }
+      this.boards = null;
+
+      if (failure != null)
+      {
+         throw failure;
+      }
+      return new BatchReport (latencies.getCount (), wordCount, totalScore,
+            System.nanoTime () - start, threads, latencies);
+   } // solve
+
+   /************************************************************************
+    * setMultiBoard - This method sets whether later batches solve each
+    *       group of up to MultiBoardSolver.MAX_BOARDS boards with a single
+    *       walk of the word graph. The results are the same; the latency
+    *       recorded for each board is then its group's time shared evenly
+    *       among the group's boards.
+    *
+    * @return none
+    * @param boolean
+    ************************************************************************/
+   public synchronized void setMultiBoard (boolean multiBoard)
+   {
+      this.multiBoard = multiBoard;
+   } // setMultiBoard
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * joinWorker - This method waits for a worker to finish.
+    *
+    * @return none
+    * @param Worker
+    ************************************************************************/
+   private static void joinWorker (Worker worker)
+   {
+      boolean interrupted = false;
+
+      while (worker.isAlive ())
+      {
+         try
+         {
+            worker.join ();
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+
+      if (interrupted)
+      {
+         Thread.currentThread ().interrupt ();
+      }
+   } // joinWorker
+
+   /************************************************************************
+    * nextChunk - This method fills the chunk with the next boards from the
+    *       stream and returns how many it took, and the stream index of the
+    *       first one in firstIndex[0].
+    *
+    * @return int
+    * @param Board[], long[]
+    ************************************************************************/
+   private int nextChunk (Board[] chunk, long[] firstIndex)
+   {
+      int taken = 0;
+
+      synchronized (streamLock)
+      {
+         firstIndex[0] = nextIndex;
+
+         while (taken < chunk.length && boards.hasNext ())
+         {
+            chunk[taken] = boards.next ();
+            taken++;
+         }
+         nextIndex += taken;
+      }
+      return taken;
+   } // nextChunk
+
+   /*
+    * private classes*****************
+    */
+
+   /************************************************************************
+    * Worker - This class is a thread that solves chunks of boards until
+    *       the stream runs out, with its own solver and statistics.
+    ************************************************************************/
+   private class Worker extends Thread
+   {
+      private final ResultHandler handler;
+      private final BoardSolver solver;
+      private final MultiBoardSolver multiSolver;   // null unless multi-board
+      private final LatencyHistogram latencies = new LatencyHistogram ();
+      private long wordCount = 0;
+      private long totalScore = 0;
+      private Throwable failure = null;
+
+      public Worker (ResultHandler handler, boolean multiBoard)
+      {
+         super ("BatchSolver worker");
+         this.handler = handler;
+         solver = multiBoard ? null : new BoardSolver (graph);
+         multiSolver = multiBoard ? new MultiBoardSolver (graph) : null;
+         setDaemon (true);
+      }
+
+      public void run ()
+      {
+         Board[] chunk = new Board[CHUNK_SIZE];
+         long[] firstIndex = new long[1];
+
+         try
+         {
+            int taken = nextChunk (chunk, firstIndex);
+
+            while (taken > 0)
+            {
+               if (multiSolver != null)
+               {
+                  solveGroups (chunk, taken, firstIndex[0]);
+               }
+               else
+               {
+                  for (int i = 0; i < taken; i++)
+                  {
+                     long start = System.nanoTime ();
+                     SolveResult result = solver.solve (chunk[i]);
+                     latencies.record (System.nanoTime () - start);
+                     handle (firstIndex[0] + i, chunk[i], result);
+                  }
+               }
+               Arrays.fill (chunk, 0, taken, null);
+               taken = nextChunk (chunk, firstIndex);
+            }
+         }
+         catch (Throwable t)
+         {
+            failure = t;
+         }
+      }
+
+      /*********************************************************************
+       * handle - This method adds a board's result to the statistics and
+       *       passes it to the handler.
+       *********************************************************************/
+      private void handle (long index, Board board, SolveResult result)
+      {
+         wordCount += result.getWordCount ();
+         totalScore += result.getScore ();
+
+         if (handler != null)
+         {
+            handler.handleResult (index, board, result);
+         }
+      }
+
+      /*********************************************************************
+       * solveGroups - This method solves the boards of a chunk in groups
+       *       that each share one walk of the word graph.
+       *********************************************************************/
+      private void solveGroups (Board[] chunk, int taken, long firstIndex)
+      {
+         for (int offset = 0; offset < taken;
+               offset += MultiBoardSolver.MAX_BOARDS)
+         {
+            int count = Math.min (taken - offset, MultiBoardSolver.MAX_BOARDS);
+            long start = System.nanoTime ();
+            SolveResult[] results = multiSolver.solve (chunk, offset, count);
+            long each = (System.nanoTime () - start) / count;
+
+            for (int i = 0; i < count; i++)
+            {
+               latencies.record (each);
+               handle (firstIndex + offset + i, chunk[offset + i], results[i]);
+            }
+         }
+      }
+   } // Worker
+
+} // BatchSolver
@@ -1,18 +1,24 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.Random;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import utilities.GridPosition;
 import utilities.StringSet;
+import utilities.WordGraph;
 
 /***************************************************************************
  * Board - This class holds a Boggle game board. It is responsible for shuffling
- * or mixing up the letters as indicated in the specifications, and providing
+ * or mixing up the letters (using BoardGenerator), and providing
  * client access to individual letters on the board. The board keeps the letters
- * in a 4x4 char array.
+ * in a char array with any number of rows and columns (4x4 by default, 5x5 
+ * for Big Boggle, 6x6 for Super Big Boggle) up to MAX_CELLS cells.
+ * 
+ * A Board does not change after it is constructed. The searches keep their
+ * state in local variables, so many threads can check words against the same
+ * board at the same time.
  * 
  * @author Alexander Anderson
  * @version 2.0 (October 28, 2012) 
@@ -27,6 +33,27 @@ import utilities.StringSet;
  *                            check for a given word is on the board 
  *                            using recursion and to find all the dictionary
  *                            words on the board.
+ *               10/18/2026 - Replaced the 3-letter prefix search with a
+ *                            single walk of the board against the 
+ *                            dictionary's prefix tree.
+ *               10/18/2026 - The searches use a table of each cell's
+ *                            neighbors and a bitmask of visited cells.
+ *               10/18/2026 - Made the board immutable so that it can be
+ *                            shared between threads.
+ *               10/18/2026 - Boards may have any number of rows and
+ *                            columns up to MAX_CELLS cells.
+ *               10/18/2026 - Added a parallel search for large boards.
+ *               10/18/2026 - Random letters come from BoardGenerator; the
+ *                            letters are kept in a single array.
+ *               10/18/2026 - isWordOnBoard first checks the word against
+ *                            the board's letter counts and adjacent
+ *                            letter pairs.
+ *               10/18/2026 - Searches of boards with many repeated letters
+ *                            skip states they have already explored.
+ *               10/18/2026 - Added dictionaryOrdinalsOnBoard, which returns
+ *                            the words as dictionary ordinals.
+ *               10/18/2026 - The searches walk the dictionary's word graph
+ *                            instead of a prefix tree built from it.
  *          
  ***************************************************************************/
 
@@ -37,35 +64,30 @@ public class Board
     * public static attributes***************************
     */
 
+   public static final int DEFAULT_SIZE = 4;
+   public static final int MAX_CELLS = 64;   // one bit per cell in a long
+   public static final int PARALLEL_MIN_CELLS = 25;
+   public static final int PARALLEL_MIN_WORDS = 100000;
+
    /*
     * private static attributes****************************
     */
 
-   private static char[] letters =
-   {
-         'a', 'a', 'a', 'a', 'a', 'a', 'b', 'b', 'c', 'c', 'd', 'd', 'd', 'e', 'e',
-         'e', 'e', 'e', 'e', 'e', 'e', 'e', 'e', 'f', 'f', 'g', 'g', 'h', 'h',
-         'h', 'h', 'h', 'i', 'i', 'i', 'i', 'i', 'i', 'j', 'k', 'l', 'l', 'l',
-         'l', 'l', 'm', 'm', 'n', 'n', 'n', 'n', 'n', 'n', 'o', 'o', 'o', 'o',
-         'o', 'o', 'p', 'p', 'q', 'r', 'r', 'r', 'r', 'r', 's', 's', 's', 's',
-         's', 's', 't', 't', 't', 't', 't', 't', 't', 't', 't', 't', 'u', 'u',
-         'u', 'v', 'v', 'w', 'w', 'w', 'x', 'x', 'x', 'y', 'z'
-   };
+   private static final int ALPHABET_SIZE = 26;
+
+   private static final AtomicReferenceArray<int[][]> neighborTables =
+         new AtomicReferenceArray<int[][]> ((MAX_CELLS + 1) * (MAX_CELLS + 1));
 
    /*
     * attributes*************
     */
 
-   private boolean[][] visited =
-   {
-      { false, false, false, false },
-      { false, false, false, false },
-      { false, false, false, false },
-      { false, false, false, false } 
-   };
-
-   private char[][] board = new char[4][4];
-   private StringSet prefixes = new StringSet ();
+   private final int rows;
+   private final int columns;
+   private final char[] cells;         // board in row order
+   private final int[][] neighbors;    // neighbors of each cell
+   private final long[] letterPairs;   // bit a*26+b set if a is next to b
+   private final byte[] letterCounts;  // number of cells with each letter
 
    /*
     * constructors***************
@@ -73,67 +95,125 @@ public class Board
 
    /************************************************************************
     * Board - This method constructs a Boggle game board, randomly
-    *       generating a new board.
+    *       generating a new 4x4 board.
     * 
     * @param none
     ************************************************************************/
    public Board ()
    {
-      shuffle ();
+      this (DEFAULT_SIZE, DEFAULT_SIZE);
+   } // Board
+
+   /************************************************************************
+    * Board - This method constructs a Boggle game board with the given
+    *       number of rows and columns, randomly generating a new board
+    *       from the letter frequencies in BoardGenerator.
+    * 
+    * @param int, int
+    ************************************************************************/
+   public Board (int rows, int columns)
+   {
+      this (rows, columns, randomCells (rows * columns));
    } // Board
 
    /************************************************************************
     * Board - This method constructs a Boggle game board given a preset board.
+    *       The letters are copied, so later changes to the given array do 
+    *       not change the board. Every row must be as long as the first.
     * 
     * @param char[][]
     ************************************************************************/
    public Board (char[][] board)
    {
-      this.board = board;
+      this (board.length, columnsOf (board), flatten (board));
+   } // Board
+
+   /************************************************************************
+    * Board - This method constructs a Boggle game board from its letters in
+    *       row order. The array is kept, not copied, so the caller must 
+    *       not change it afterwards.
+    * 
+    * @param int, int, char[]
+    ************************************************************************/
+   Board (int rows, int columns, char[] cells)
+   {
+      if (rows < 1 || columns < 1 || rows * columns > MAX_CELLS
+            || cells.length != rows * columns)
+      {
+         throw new IllegalArgumentException ("A board must have between 1 and "
+               + MAX_CELLS + " cells: " + rows + "x" + columns);
+      }
+
+      this.rows = rows;
+      this.columns = columns;
+      this.cells = cells;
+      neighbors = neighborTable (rows, columns);
+      letterPairs = new long[(ALPHABET_SIZE * ALPHABET_SIZE + 63) / 64];
+      letterCounts = new byte[ALPHABET_SIZE];
+      countLetters ();
    } // Board
 
    /*
     * public methods*****************
     */
 
+   /************************************************************************
+    * dictionaryOrdinalsOnBoard - This method returns the dictionary
+    *       ordinals of all the words of 3 or more letters on the board that
+    *       are in the dictionary. The search is the same as for
+    *       dictionaryWordsOnBoard, but no strings are made.
+    * 
+    * @return BitSet
+    * @param Dictionary, boolean
+    ************************************************************************/
+   public BitSet dictionaryOrdinalsOnBoard (Dictionary dictionary,
+         boolean parallel)
+   {
+      WordGraph graph = dictionary.getWordGraph ();
+
+      return dictionary.toOrdinals (graph, graphOrdinalsOnBoard (graph,
+            parallel));
+   } // dictionaryOrdinalsOnBoard
+
    /************************************************************************
     * dictionaryWordsOnBoard - This method returns all the words on the
-    *       board that are in the dictionary.
+    *       board that are in the dictionary. The board is walked once 
+    *       against the dictionary's word graph, and a path is abandoned as 
+    *       soon as no dictionary word starts with its letters. Only words of 
+    *       3 or more letters are returned, in alphabetical order.
     * 
     * @return StringSet
     * @param Dictionary
     ************************************************************************/
    public StringSet dictionaryWordsOnBoard (Dictionary dictionary)
    {
-      StringSet wordsOnBoard = new StringSet ();
-
-      // Get all 3-letter prefixes on board
-      for (int i = 0; i < 4; i++)
-      {
-         for (int j = 0; j < 4; j++)
-         {
-            GridPosition position = new GridPosition (i, j);
-            visited[i][j] = true;
-            getPrefixes (position, "");
-            visited[i][j] = false;
-         }
-      }
-
-      // Get all dictionary words for all the prefixes
-      SortedSet<String> allWords = new TreeSet<String> ();
-      ArrayList<String> prefixList = prefixes.getWordList ();
+      return dictionaryWordsOnBoard (dictionary, false);
+   } // dictionaryWordsOnBoard
 
-      for (String prefix : prefixList)
-      {
-         allWords.addAll (dictionary.wordsStartingWith (prefix));
-      }
+   /************************************************************************
+    * dictionaryWordsOnBoard - This method returns all the words on the
+    *       board that are in the dictionary. When parallel is true and the
+    *       board has at least PARALLEL_MIN_CELLS cells or the dictionary has
+    *       at least PARALLEL_MIN_WORDS words, the search is split by 
+    *       starting cell and first step and run on the common ForkJoinPool,
+    *       each worker thread using its own BoardSolver. Smaller searches 
+    *       run on the calling thread.
+    * 
+    * @return StringSet
+    * @param Dictionary, boolean
+    ************************************************************************/
+   public StringSet dictionaryWordsOnBoard (Dictionary dictionary,
+         boolean parallel)
+   {
+      StringSet wordsOnBoard = new StringSet ();
+      WordGraph graph = dictionary.getWordGraph ();
+      BitSet found = graphOrdinalsOnBoard (graph, parallel);
 
-      for (String word : allWords)
+      // The ordinals are in alphabetical order
+      for (int ordinal = found.nextSetBit (0); ordinal >= 0;
+            ordinal = found.nextSetBit (ordinal + 1))
       {
-         if (isWordOnBoard (word))
-         {
-            wordsOnBoard.addWord (word);
-         }
+         wordsOnBoard.addWord (graph.wordAt (ordinal));
       }
       return wordsOnBoard;
    } // dictionaryWordsOnBoard
@@ -147,50 +227,158 @@ public class Board
     ************************************************************************/
    public char getLetter (int i, int j)
    {
-      return board[i][j];
+      return cells[i * columns + j];
    }
+
+   /************************************************************************
+    * getColumns - This method returns the number of columns on the board.
+    * 
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getColumns ()
+   {
+      return columns;
+   } // getColumns
+
+   /************************************************************************
+    * getRows - This method returns the number of rows on the board.
+    * 
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getRows ()
+   {
+      return rows;
+   } // getRows
    
+   /*
+    * package methods*****************
+    */
+
    /************************************************************************
-    * isWordOnBoard - This method returns true if the string sequence provided
-    * in the word given is valid on the Boggle board. Letters in the word must
-    * be adjacent (horizontally, vertically, or diagonally) and can only be used
-    * once.
+    * getCells - This method returns the letters of the board in row order.
+    *       The array is shared and must not be changed.
+    * 
+    * @return char[]
+    * @param none
+    ************************************************************************/
+   char[] getCells ()
+   {
+      return cells;
+   } // getCells
+
+   /************************************************************************
+    * isRepetitive - This method returns true if the board repeats letters
+    *       often enough that its searches should be memoized.
     * 
     * @return boolean
-    * @param String
+    * @param none
     ************************************************************************/
-   public boolean isWordOnBoard (String word)
+   boolean isRepetitive ()
+   {
+      return SearchMemo.isRepetitive (letterCounts);
+   } // isRepetitive
+
+   /************************************************************************
+    * getLetterCounts - This method returns the number of cells with each
+    *       letter, 'a' first. The array is shared and must not be changed.
+    * 
+    * @return byte[]
+    * @param none
+    ************************************************************************/
+   byte[] getLetterCounts ()
+   {
+      return letterCounts;
+   } // getLetterCounts
+
+   /************************************************************************
+    * getLetterPairs - This method returns the pairs of letters next to each
+    *       other on the board: bit a * 26 + b is set if letter a is next to
+    *       letter b, 'a' being 0. The array is shared and must not be
+    *       changed.
+    * 
+    * @return long[]
+    * @param none
+    ************************************************************************/
+   long[] getLetterPairs ()
+   {
+      return letterPairs;
+   } // getLetterPairs
+
+   /************************************************************************
+    * getNeighbors - This method returns the cells next to each cell. The
+    *       array is shared and must not be changed.
+    * 
+    * @return int[][]
+    * @param none
+    ************************************************************************/
+   int[][] getNeighbors ()
+   {
+      return neighbors;
+   } // getNeighbors
+
+   /************************************************************************
+    * hasPath - This method returns true if there is a path on the board
+    *       spelling the word, which has at least 2 letters, without first
+    *       checking its letters against the letter counts and pairs. When
+    *       memoize is true the search is memoized as for isWordOnBoard.
+    * 
+    * @return boolean
+    * @param CharSequence, boolean
+    ************************************************************************/
+   boolean hasPath (CharSequence word, boolean memoize)
    {
       boolean wordIsOnBoard = false;
+      char letter = word.charAt (0);
+      SearchMemo memo = memoize ? SearchMemo.forThread () : null;
 
-      if (word != null && word.length () > 0)
+      if (memo != null)
       {
-         char letter = word.charAt (0);
-         int nextLetter = 1;
+         memo.begin ();
+      }
 
-         if (nextLetter < word.length ())
+      for (int cell = 0; cell < cells.length && !wordIsOnBoard; cell++)
+      {
+         if (letter == cells[cell])
          {
-            for (int i = 0; i < 4; i++)
-            {
-               for (int j = 0; j < 4; j++)
-               {
-                  if (!wordIsOnBoard)
-                  {
-                     GridPosition boardPosition = new GridPosition (i, j);
-                     
-                     if (letter == board[i][j])
-                     {
-                        // Use recursion to check for the word on the board
-                        visited[boardPosition.getX ()][boardPosition.getY ()] = true;
-                        wordIsOnBoard = checkWord (word, nextLetter, boardPosition);
-                        visited[boardPosition.getX ()][boardPosition.getY ()] = false;                        
-                     }
-                  }
-               }
-            }
+            // Use recursion to check for the word on the board
+            wordIsOnBoard = checkWord (word, 1, cell, 1L << cell, memo);
          }
       }
       return wordIsOnBoard;
+   } // hasPath
+
+   /************************************************************************
+    * isWordOnBoard - This method returns true if the string sequence provided
+    * in the word given is valid on the Boggle board. Letters in the word must
+    * be adjacent (horizontally, vertically, or diagonally) and can only be used
+    * once. Most words that are not on the board use a letter more often
+    * than the board has it or have two letters in a row that are never
+    * next to each other, so those are rejected before any path is searched.
+    * The search is memoized if the board has many repeated letters.
+    * 
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public boolean isWordOnBoard (String word)
+   {
+      return isWordOnBoard (word, isRepetitive ());
+   } // isWordOnBoard
+
+   /************************************************************************
+    * isWordOnBoard - This method returns true if the word is on the board.
+    *       When memoize is true, the search remembers the dead ends it has
+    *       found, the cells used and the position in the word, so that it
+    *       does not search them again by another path.
+    * 
+    * @return boolean
+    * @param String, boolean
+    ************************************************************************/
+   public boolean isWordOnBoard (String word, boolean memoize)
+   {
+      return word != null && word.length () > 1 && lettersFit (word)
+            && hasPath (word, memoize);
    } // isWordOnBoard
 
    /************************************************************************
@@ -203,11 +391,11 @@ public class Board
    {
       StringBuffer str = new StringBuffer ();
 
-      for (int i = 0; i < 4; i++)
+      for (int i = 0; i < rows; i++)
       {
-         for (int j = 0; j < 4; j++)
+         for (int j = 0; j < columns; j++)
          {
-            str.append (board[i][j]);
+            str.append (cells[i * columns + j]);
             str.append (' ');
          }
          str.append ('\n');
@@ -220,111 +408,323 @@ public class Board
     */
 
    /************************************************************************
-    * checkWord - This method recursively checks if a word is on the board.
+    * checkWord - This method recursively checks if the rest of a word is on
+    *       the board, starting next to the given cell. The cells already on 
+    *       the path are the set bits of visited. A state the memo has seen
+    *       before was a dead end, or the search would have stopped, so it
+    *       is skipped. The memo may be null.
     * 
     * @return boolean
-    * @param String
-    *           , char, BoardPosition
+    * @param CharSequence, int, int, long, SearchMemo
     ************************************************************************/
-   private boolean checkWord (String word, int nextLetter,
-         GridPosition oldPosition)
+   private boolean checkWord (CharSequence word, int nextLetter, int cell,
+         long visited, SearchMemo memo)
    {
       boolean wordIsOnBoard = false;
       char letter = word.charAt (nextLetter);
+      int[] adjacent = neighbors[cell];
+
+      for (int k = 0; k < adjacent.length && !wordIsOnBoard; k++)
+      {
+         int neighbor = adjacent[k];
 
-		for (int i = 0; i < 4; i++)
-		{
-			for (int j = 0; j < 4; j++)
-			{				
-				if (!wordIsOnBoard && !visited[i][j] && letter == board[i][j])
-				{
-	      		GridPosition newPosition = new GridPosition (i, j);
-					
-					if (GridPosition.isAdjacent (oldPosition, newPosition))
-					{
-            		if (nextLetter >= word.length () - 1)
-            		{
-               		wordIsOnBoard = true;
-            		}
-            		else
-            		{
-							visited[i][j] = true;
-               		wordIsOnBoard = checkWord (word, nextLetter + 1, newPosition);
-							visited[i][j] = false;
-            		}
-					}
-				}
-			}
-		}
+         if ((visited & (1L << neighbor)) == 0 && letter == cells[neighbor])
+         {
+            if (nextLetter >= word.length () - 1)
+            {
+               wordIsOnBoard = true;
+            }
+            else if (memo == null || nextLetter < 2 || memo.visit (neighbor,
+                  nextLetter, visited | (1L << neighbor)))
+            {
+               wordIsOnBoard = checkWord (word, nextLetter + 1, neighbor,
+                     visited | (1L << neighbor), memo);
+            }
+         }
+      }
       return wordIsOnBoard;
    } // checkWord
 
    /************************************************************************
-    * getPrefixes - This method finds 3 character prefixes on the board.
+    * countLetters - This method fills in the letter counts and the pairs of
+    *       letters that are next to each other on the board. Cells that are
+    *       not lower case letters are left out.
     * 
     * @return none
-    * @param BoardPosition, String
+    * @param none
+    ************************************************************************/
+   private void countLetters ()
+   {
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         int letter = cells[cell] - 'a';
+
+         if (letter >= 0 && letter < ALPHABET_SIZE)
+         {
+            letterCounts[letter]++;
+
+            for (int neighbor : neighbors[cell])
+            {
+               int next = cells[neighbor] - 'a';
+
+               if (next >= 0 && next < ALPHABET_SIZE)
+               {
+                  int pair = letter * ALPHABET_SIZE + next;
+                  letterPairs[pair >>> 6] |= 1L << pair;
+               }
+            }
+         }
+      }
+   } // countLetters
+
+   /************************************************************************
+    * lettersFit - This method returns false if the word cannot be on the
+    *       board because it uses a letter more times than the board has it
+    *       or has two letters in a row that are not next to each other 
+    *       anywhere on the board. A true result means the word still has to
+    *       be searched for. Characters other than lower case letters are
+    *       only counted against the number of cells. The pairs are checked
+    *       first, and only letters the word repeats are counted after, so
+    *       nothing is allocated.
+    * 
+    * @return boolean
+    * @param String
     ************************************************************************/
-   private void getPrefixes (GridPosition position, String prefix)
+   private boolean lettersFit (String word)
    {
-      int x = position.getX ();
-      int y = position.getY ();
-      String newPrefix = prefix + board[x][y];
+      boolean fits = word.length () <= cells.length;
+      int seen = 0;        // bit per letter in the word
+      int repeated = 0;    // bit per letter in the word more than once
+      int previous = -1;
 
-      if (newPrefix.length () == 3)
+      for (int i = 0; i < word.length () && fits; i++)
       {
-         prefixes.addWord (newPrefix);
-         visited[x][y] = false;
+         int letter = word.charAt (i) - 'a';
+
+         if (letter >= 0 && letter < ALPHABET_SIZE)
+         {
+            repeated |= seen & (1 << letter);
+            seen |= 1 << letter;
+
+            if (previous >= 0)
+            {
+               int pair = previous * ALPHABET_SIZE + letter;
+               fits = (letterPairs[pair >>> 6] & (1L << pair)) != 0;
+            }
+            else
+            {
+               fits = letterCounts[letter] > 0;
+            }
+            previous = letter;
+         }
+         else
+         {
+            previous = -1;
+         }
+      }
+
+      while (fits && repeated != 0)
+      {
+         int letter = Integer.numberOfTrailingZeros (repeated);
+         char c = (char) ('a' + letter);
+         int used = 0;
+
+         for (int i = 0; i < word.length (); i++)
+         {
+            if (word.charAt (i) == c)
+            {
+               used++;
+            }
+         }
+         fits = used <= letterCounts[letter];
+         repeated &= repeated - 1;
+      }
+      return fits;
+   } // lettersFit
+
+   /************************************************************************
+    * graphOrdinalsOnBoard - This method returns the word graph ordinals
+    *       of the words of 3 or more letters on the board, searching in
+    *       parallel as described for dictionaryWordsOnBoard.
+    * 
+    * @return BitSet
+    * @param WordGraph, boolean
+    ************************************************************************/
+   private BitSet graphOrdinalsOnBoard (WordGraph graph, boolean parallel)
+   {
+      BitSet found = new BitSet (graph.size ());
+
+      if (parallel && (cells.length >= PARALLEL_MIN_CELLS
+            || graph.size () >= PARALLEL_MIN_WORDS))
+      {
+         ArrayList<PathTask> tasks = new ArrayList<PathTask> ();
+
+         for (int cell = 0; cell < cells.length; cell++)
+         {
+            for (int neighbor : neighbors[cell])
+            {
+               PathTask task = new PathTask (graph, cell, neighbor);
+               task.fork ();
+               tasks.add (task);
+            }
+         }
+
+         for (PathTask task : tasks)
+         {
+            for (int ordinal : task.join ())
+            {
+               found.set (ordinal);
+            }
+         }
       }
       else
       {
-         for (int i = x - 1; i <= x + 1; i++)
+         SolveResult result = BoardSolver.forThread (graph).solve (this);
+
+         for (int i = 0; i < result.getWordCount (); i++)
+         {
+            found.set (result.getOrdinal (i));
+         }
+      }
+      return found;
+   } // graphOrdinalsOnBoard
+
+   /************************************************************************
+    * columnsOf - This method returns the number of columns of a preset
+    *       board, taken from its first row.
+    * 
+    * @return int
+    * @param char[][]
+    ************************************************************************/
+   private static int columnsOf (char[][] board)
+   {
+      return (board.length > 0) ? board[0].length : 0;
+   } // columnsOf
+
+   /************************************************************************
+    * flatten - This method copies a preset board into a new array in row 
+    *       order. A row that is not as long as the first row is rejected.
+    * 
+    * @return char[]
+    * @param char[][]
+    ************************************************************************/
+   private static char[] flatten (char[][] board)
+   {
+      int columns = columnsOf (board);
+      char[] cells = new char[board.length * columns];
+
+      for (int i = 0; i < board.length; i++)
+      {
+         if (board[i].length != columns)
+         {
+            throw new IllegalArgumentException ("Row " + i + " has "
+                  + board[i].length + " letters, expected " + columns);
+         }
+         System.arraycopy (board[i], 0, cells, i * columns, columns);
+      }
+      return cells;
+   } // flatten
+
+   /************************************************************************
+    * randomCells - This method returns the given number of random letters
+    *       from the letter frequencies in BoardGenerator.
+    * 
+    * @return char[]
+    * @param int
+    ************************************************************************/
+   private static char[] randomCells (int count)
+   {
+      char[] cells = new char[Math.max (count, 0)];
+      BoardGenerator.randomLetters (cells);
+      return cells;
+   } // randomCells
+
+   /************************************************************************
+    * neighborTable - This method returns, for each cell of a board with the
+    *       given number of rows and columns, the cells that are adjacent to
+    *       it (horizontally, vertically, or diagonally). Cells are numbered
+    *       in row order. The tables are shared by all boards of the same
+    *       size.
+    * 
+    * @return int[][]
+    * @param int, int
+    ************************************************************************/
+   private static int[][] neighborTable (int rows, int columns)
+   {
+      int size = rows * (MAX_CELLS + 1) + columns;
+      int[][] table = neighborTables.get (size);
+
+      if (table == null)
+      {
+         table = buildNeighborTable (rows, columns);
+         neighborTables.compareAndSet (size, null, table);
+      }
+      return table;
+   } // neighborTable
+
+   /************************************************************************
+    * buildNeighborTable - This method computes the neighbor table for a
+    *       board with the given number of rows and columns.
+    * 
+    * @return int[][]
+    * @param int, int
+    ************************************************************************/
+   private static int[][] buildNeighborTable (int rows, int columns)
+   {
+      int[][] table = new int[rows * columns][];
+      int[] neighbors = new int[8];
+
+      for (int x = 0; x < rows; x++)
+      {
+         for (int y = 0; y < columns; y++)
          {
-            for (int j = y - 1; j <= y + 1; j++)
+            int count = 0;
+
+            for (int i = x - 1; i <= x + 1; i++)
             {
-               if (i >= 0 && j >= 0 && i < 4 && j < 4)
+               for (int j = y - 1; j <= y + 1; j++)
                {
-                  if (! ( (i == x) && (j == y)))
+                  if (i >= 0 && j >= 0 && i < rows && j < columns
+                        && ! (i == x && j == y))
                   {
-                     if (!visited[i][j])
-                     {
-                        GridPosition newPosition = new GridPosition (i, j);
-                        visited[i][j] = true;
-                        getPrefixes (newPosition, newPrefix);
-                        visited[i][j] = false;
-                     }
+                     neighbors[count] = i * columns + j;
+                     count++;
                   }
                }
             }
+            table[x * columns + y] = Arrays.copyOf (neighbors, count);
          }
       }
-   } // getPrefixes
+      return table;
+   } // buildNeighborTable
+
+   /*
+    * private classes*****************
+    */
 
    /************************************************************************
-    * shuffle - This method randomly assigns letters to the board based on
-    *       the following probabilities: 
-    *       Probability    Letter 
-    *            1/96    J, K, Q, Y, Z 
-    *            2/96    B, C, F, G, M, P, V 
-    *            3/96    D, U, W, X 
-    *            5/96    H, L, R 
-    *            6/96    A, I, N, S, O 
-    *            10/96   E, T
-    * 
-    * @param none
+    * PathTask - This class finds the words whose paths start with a given
+    *       pair of cells, using the worker thread's own BoardSolver.
     ************************************************************************/
-   private void shuffle ()
+   private class PathTask extends RecursiveTask<int[]>
    {
-      Random randomNumber = new Random (System.nanoTime ());
+      private static final long serialVersionUID = 1L;
+      private WordGraph graph;
+      private int firstCell;
+      private int secondCell;
 
-      for (int i = 0; i < 4; i++)
+      public PathTask (WordGraph graph, int firstCell, int secondCell)
       {
-         for (int j = 0; j < 4; j++)
-         {
-            int randomInt = randomNumber.nextInt (95);
-            board[i][j] = letters[randomInt];
-         }
+         this.graph = graph;
+         this.firstCell = firstCell;
+         this.secondCell = secondCell;
+      }
+
+      protected int[] compute ()
+      {
+         return BoardSolver.forThread (graph).solveFrom (Board.this, firstCell,
+               secondCell);
       }
-   } // shuffle
+   } // PathTask
 
 } // Board
\ No newline at end of file
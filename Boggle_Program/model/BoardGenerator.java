@@ -0,0 +1,320 @@
+package model;
+
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/***************************************************************************
+ * BoardGenerator - This class makes an endless, reproducible sequence of
+ *       random boards from a seed. The letters are drawn either from the
+ *       letter frequency table below or by shuffling and rolling a set of
+ *       dice, one die per cell. The generator uses a SplittableRandom, so
+ *       split gives a new generator whose boards are independent of this
+ *       one's; parallel workers should each split their own generator from
+ *       one seeded generator to get reproducible streams. A generator must
+ *       only be used by one thread at a time.
+ *
+ *       Letter frequencies:
+ *       Probability    Letter
+ *            1/96    J, K, Q, Y, Z
+ *            2/96    B, C, F, G, M, P, V
+ *            3/96    D, U, W, X
+ *            5/96    H, L, R
+ *            6/96    A, I, N, S, O
+ *            10/96   E, T
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class BoardGenerator implements Iterator<Board>
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final char[] letters =
+   {
+         'a', 'a', 'a', 'a', 'a', 'a', 'b', 'b', 'c', 'c', 'd', 'd', 'd', 'e', 'e',
+         'e', 'e', 'e', 'e', 'e', 'e', 'e', 'e', 'f', 'f', 'g', 'g', 'h', 'h',
+         'h', 'h', 'h', 'i', 'i', 'i', 'i', 'i', 'i', 'j', 'k', 'l', 'l', 'l',
+         'l', 'l', 'm', 'm', 'n', 'n', 'n', 'n', 'n', 'n', 'o', 'o', 'o', 'o',
+         'o', 'o', 'p', 'p', 'q', 'r', 'r', 'r', 'r', 'r', 's', 's', 's', 's',
+         's', 's', 't', 't', 't', 't', 't', 't', 't', 't', 't', 't', 'u', 'u',
+         'u', 'v', 'v', 'w', 'w', 'w', 'x', 'x', 'x', 'y', 'z'
+   };
+
+   // The 16 dice of the current 4x4 game; the "Qu" face is a 'q' cell
+   private static final String[] classicDice =
+   {
+         "aaeegn", "abbjoo", "achops", "affkps", "aoottw", "cimotu",
+         "deilrx", "delrvy", "distty", "eeghnw", "eeinsu", "ehrtvw",
+         "eiosst", "elrtty", "himnqu", "hlnnrz"
+   };
+
+   /*
+    * attributes*************
+    */
+
+   private final SplittableRandom random;
+   private final int rows;
+   private final int columns;
+   private final String[] dice;       // null to use the letter frequencies
+   private final int[] order;         // dice order, reused for every board
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * BoardGenerator - This method constructs a generator of 4x4 boards
+    *       using the letter frequencies.
+    *
+    * @param long
+    ************************************************************************/
+   public BoardGenerator (long seed)
+   {
+      this (seed, Board.DEFAULT_SIZE, Board.DEFAULT_SIZE);
+   } // BoardGenerator
+
+   /************************************************************************
+    * BoardGenerator - This method constructs a generator of boards of the
+    *       given size using the letter frequencies.
+    *
+    * @param long, int, int
+    ************************************************************************/
+   public BoardGenerator (long seed, int rows, int columns)
+   {
+      this (new SplittableRandom (seed), rows, columns, null);
+   } // BoardGenerator
+
+   /************************************************************************
+    * BoardGenerator - This method constructs a generator of boards of the
+    *       given size that shuffles and rolls the given dice. Each die is a
+    *       string of its faces, and there must be one die per cell.
+    *
+    * @param long, String[], int, int
+    ************************************************************************/
+   public BoardGenerator (long seed, String[] dice, int rows, int columns)
+   {
+      this (new SplittableRandom (seed), rows, columns, checkDice (dice,
+            rows * columns));
+   } // BoardGenerator
+
+   /************************************************************************
+    * BoardGenerator - This method constructs a generator from its parts.
+    *
+    * @param SplittableRandom, int, int, String[]
+    ************************************************************************/
+   private BoardGenerator (SplittableRandom random, int rows, int columns,
+         String[] dice)
+   {
+      if (rows < 1 || columns < 1 || rows * columns > Board.MAX_CELLS)
+      {
+         throw new IllegalArgumentException ("A board must have between 1 and "
+               + Board.MAX_CELLS + " cells: " + rows + "x" + columns);
+      }
+
+      this.random = random;
+      this.rows = rows;
+      this.columns = columns;
+      this.dice = dice;
+      order = (dice != null) ? new int[dice.length] : null;
+   } // BoardGenerator
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * withClassicDice - This method returns a generator of 4x4 boards that
+    *       rolls the 16 standard Boggle dice.
+    *
+    * @return BoardGenerator
+    * @param long
+    ************************************************************************/
+   public static BoardGenerator withClassicDice (long seed)
+   {
+      return new BoardGenerator (seed, classicDice, Board.DEFAULT_SIZE,
+            Board.DEFAULT_SIZE);
+   } // withClassicDice
+
+   /************************************************************************
+    * randomLetters - This method fills the cells with letters drawn from
+    *       the letter frequencies, using the calling thread's random number
+    *       generator. It is used for boards that do not need to be
+    *       reproduced.
+    *
+    * @return none
+    * @param char[]
+    ************************************************************************/
+   public static void randomLetters (char[] cells)
+   {
+      ThreadLocalRandom randomNumber = ThreadLocalRandom.current ();
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         cells[cell] = letters[randomNumber.nextInt (letters.length)];
+      }
+   } // randomLetters
+
+   /************************************************************************
+    * boards - This method returns an endless stream of boards from this
+    *       generator.
+    *
+    * @return Stream<Board>
+    * @param none
+    ************************************************************************/
+   public Stream<Board> boards ()
+   {
+      return Stream.generate (new Supplier<Board> ()
+      {
+         public Board get ()
+         {
+            return next ();
+         }
+      });
+   } // boards
+
+   /************************************************************************
+    * boards - This method returns a stream of the given number of boards
+    *       from this generator.
+    *
+    * @return Stream<Board>
+    * @param long
+    ************************************************************************/
+   public Stream<Board> boards (long count)
+   {
+      return boards ().limit (count);
+   } // boards
+
+   /************************************************************************
+    * hasNext - This method returns true; the generator never runs out.
+    *
+    * @return boolean
+    * @param none
+    ************************************************************************/
+   public boolean hasNext ()
+   {
+      return true;
+   } // hasNext
+
+   /************************************************************************
+    * next - This method returns the next board.
+    *
+    * @return Board
+    * @param none
+    ************************************************************************/
+   public Board next ()
+   {
+      char[] cells = new char[rows * columns];
+      nextLetters (cells);
+      return new Board (rows, columns, cells);
+   } // next
+
+   /************************************************************************
+    * nextLetters - This method fills the cells, in row order, with the
+    *       letters of the next board without making a Board.
+    *
+    * @return none
+    * @param char[]
+    ************************************************************************/
+   public void nextLetters (char[] cells)
+   {
+      if (dice == null)
+      {
+         for (int cell = 0; cell < cells.length; cell++)
+         {
+            cells[cell] = letters[random.nextInt (letters.length)];
+         }
+      }
+      else
+      {
+         // Shuffle the dice into the cells, then roll each one
+         for (int i = 0; i < order.length; i++)
+         {
+            int j = random.nextInt (i + 1);
+            order[i] = order[j];
+            order[j] = i;
+         }
+
+         for (int cell = 0; cell < cells.length; cell++)
+         {
+            String die = dice[order[cell]];
+            cells[cell] = die.charAt (random.nextInt (die.length ()));
+         }
+      }
+   } // nextLetters
+
+   /************************************************************************
+    * split - This method returns a new generator of the same kind of
+    *       boards whose sequence is independent of this one's.
+    *
+    * @return BoardGenerator
+    * @param none
+    ************************************************************************/
+   public BoardGenerator split ()
+   {
+      return new BoardGenerator (random.split (), rows, columns, dice);
+   } // split
+
+   /*
+    * package methods*****************
+    */
+
+   /************************************************************************
+    * randomLetter - This method returns a letter drawn from the letter
+    *       frequencies using the given random number generator.
+    *
+    * @return char
+    * @param SplittableRandom
+    ************************************************************************/
+   static char randomLetter (SplittableRandom random)
+   {
+      return letters[random.nextInt (letters.length)];
+   } // randomLetter
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * checkDice - This method checks that there is one die per cell and
+    *       that every die has at least one face, and returns a copy of the
+    *       dice in lower case.
+    *
+    * @return String[]
+    * @param String[], int
+    ************************************************************************/
+   private static String[] checkDice (String[] dice, int cellCount)
+   {
+      if (dice.length != cellCount)
+      {
+         throw new IllegalArgumentException ("Expected " + cellCount
+               + " dice but got " + dice.length);
+      }
+
+      String[] copy = new String[dice.length];
+
+      for (int i = 0; i < dice.length; i++)
+      {
+         if (dice[i].length () == 0)
+         {
+            throw new IllegalArgumentException ("Die " + i + " has no faces");
+         }
+         copy[i] = dice[i].toLowerCase ();
+      }
+      return copy;
+   } // checkDice
+
+} // BoardGenerator
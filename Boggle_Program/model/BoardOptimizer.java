@@ -0,0 +1,425 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import utilities.WordGraph;
+
+/***************************************************************************
+ * BoardOptimizer - This class searches for boards with a high total score
+ *       by simulated annealing. Each chain starts from a random board and
+ *       repeatedly changes one cell to a new letter or swaps two cells,
+ *       rescores the board with its own IncrementalSolver, which only
+ *       searches the paths through the changed cells, and keeps the change
+ *       if the score went up, or with a probability that shrinks with the
+ *       loss and with the temperature if it went down. The temperature
+ *       falls from the start temperature to the end temperature over the
+ *       time or move budget; temperatures of 0 give plain hill climbing.
+ *
+ *       Several chains run at once, one per thread, each with its own
+ *       random number generator split from the seed. A run stops when the
+ *       time budget or every chain's move budget is used up, or as soon as
+ *       any chain reaches the target score. getProgress may be called from
+ *       another thread while a run is going.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class BoardOptimizer
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final double DEFAULT_START_TEMPERATURE = 4.0;
+   public static final double DEFAULT_END_TEMPERATURE = 0.1;
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int MOVES_PER_CHECK = 256;   // moves between checks
+
+   /*
+    * attributes*************
+    */
+
+   private final WordGraph graph;
+   private final int rows;
+   private final int columns;
+   private final int chains;
+   private double startTemperature = DEFAULT_START_TEMPERATURE;
+   private double endTemperature = DEFAULT_END_TEMPERATURE;
+
+   // State of the running optimization
+   private final Object runLock = new Object ();   // one run at a time
+   private final AtomicLong moves = new AtomicLong ();
+   private final AtomicLong acceptedMoves = new AtomicLong ();
+   private volatile boolean stopped = false;
+   private long start;
+   private long finish = 0;           // 0 while running
+   private Board bestBoard = null;
+   private int bestScore = 0;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * BoardOptimizer - This method constructs an optimizer of boards of the
+    *       given size that runs one chain per available processor.
+    *
+    * @param Dictionary, int, int
+    ************************************************************************/
+   public BoardOptimizer (Dictionary dictionary, int rows, int columns)
+   {
+      this (dictionary, rows, columns,
+            Runtime.getRuntime ().availableProcessors ());
+   } // BoardOptimizer
+
+   /************************************************************************
+    * BoardOptimizer - This method constructs an optimizer of boards of the
+    *       given size that runs the given number of chains. The words in
+    *       the dictionary when the optimizer is made are used to score the
+    *       boards.
+    *
+    * @param Dictionary, int, int, int
+    ************************************************************************/
+   public BoardOptimizer (Dictionary dictionary, int rows, int columns,
+         int chains)
+   {
+      if (rows < 1 || columns < 1 || rows * columns > Board.MAX_CELLS)
+      {
+         throw new IllegalArgumentException ("A board must have between 1 and "
+               + Board.MAX_CELLS + " cells: " + rows + "x" + columns);
+      }
+
+      graph = dictionary.getWordGraph ();
+      this.rows = rows;
+      this.columns = columns;
+      this.chains = Math.max (chains, 1);
+   } // BoardOptimizer
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getProgress - This method returns the best board and the move counts
+    *       of the current run so far, or of the last run once it is done.
+    *
+    * @return OptimizerReport
+    * @param none
+    ************************************************************************/
+   public synchronized OptimizerReport getProgress ()
+   {
+      return new OptimizerReport (bestBoard, bestScore, moves.get (),
+            acceptedMoves.get (), ((finish != 0) ? finish : System.nanoTime ())
+            - start, chains);
+   } // getProgress
+
+   /************************************************************************
+    * optimize - This method runs the chains until one of the stop
+    *       conditions is met and returns the best board found. A time
+    *       limit or move limit of 0 or less means no limit, and a target
+    *       score of 0 or less means no target, but there must be a time or
+    *       move limit. The move limit is per chain.
+    *
+    * @return OptimizerReport
+    * @param long, long, long, int
+    ************************************************************************/
+   public OptimizerReport optimize (long seed, long timeLimitMillis,
+         long movesPerChain, int targetScore)
+   {
+      if (timeLimitMillis <= 0 && movesPerChain <= 0)
+      {
+         throw new IllegalArgumentException ("A time or move limit is needed");
+      }
+
+      Chain[] workers = new Chain[chains];
+      SplittableRandom random = new SplittableRandom (seed);
+      long timeLimit = (timeLimitMillis > 0) ? timeLimitMillis * 1000000L
+            : Long.MAX_VALUE;
+      long moveLimit = (movesPerChain > 0) ? movesPerChain : Long.MAX_VALUE;
+      RuntimeException failure = null;
+
+      synchronized (runLock)
+      {
+         synchronized (this)
+         {
+            moves.set (0);
+            acceptedMoves.set (0);
+            stopped = false;
+            bestBoard = null;
+            bestScore = 0;
+            start = System.nanoTime ();
+            finish = 0;
+         }
+
+         for (int i = 0; i < chains; i++)
+         {
+            workers[i] = new Chain (random.split (), timeLimit, moveLimit,
+                  targetScore);
+            workers[i].start ();
+         }
+
+         for (Chain worker : workers)
+         {
+            joinChain (worker);
+
+            if (failure == null && worker.failure != null)
+            {
+               failure = new IllegalStateException ("Board optimizer failed",
+                     worker.failure);
+            }
+         }
+
+         synchronized (this)
+         {
+            finish = System.nanoTime ();
+         }
+      }
+
+      if (failure != null)
+      {
+         throw failure;
+      }
+      return getProgress ();
+   } // optimize
+
+   /************************************************************************
+    * setTemperatures - This method sets the temperatures at the start and
+    *       end of a run. Higher temperatures accept more moves that lower
+    *       the score.
+    *
+    * @return none
+    * @param double, double
+    ************************************************************************/
+   public void setTemperatures (double startTemperature,
+         double endTemperature)
+   {
+      this.startTemperature = Math.max (startTemperature, 0);
+      this.endTemperature = Math.max (endTemperature, 0);
+   } // setTemperatures
+
+   /************************************************************************
+    * stop - This method asks the chains of the current run to stop.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   public void stop ()
+   {
+      stopped = true;
+   } // stop
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * joinChain - This method waits for a chain to finish.
+    *
+    * @return none
+    * @param Chain
+    ************************************************************************/
+   private static void joinChain (Chain chain)
+   {
+      boolean interrupted = false;
+
+      while (chain.isAlive ())
+      {
+         try
+         {
+            chain.join ();
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+
+      if (interrupted)
+      {
+         Thread.currentThread ().interrupt ();
+      }
+   } // joinChain
+
+   /************************************************************************
+    * offerBest - This method records a chain's best board if it beats the
+    *       best board of all the chains.
+    *
+    * @return none
+    * @param IncrementalSolver
+    ************************************************************************/
+   private synchronized void offerBest (IncrementalSolver solver)
+   {
+      int score = solver.getScore ();
+
+      if (bestBoard == null || score > bestScore)
+      {
+         bestBoard = solver.getBoard ();
+         bestScore = score;
+      }
+   } // offerBest
+
+   /************************************************************************
+    * temperature - This method returns the temperature once the given
+    *       fraction of the run is done. The temperature falls geometrically
+    *       when both temperatures are above 0, and linearly otherwise.
+    *
+    * @return double
+    * @param double
+    ************************************************************************/
+   private double temperature (double done)
+   {
+      double temperature;
+
+      if (startTemperature > 0 && endTemperature > 0)
+      {
+         temperature = startTemperature
+               * Math.pow (endTemperature / startTemperature, done);
+      }
+      else
+      {
+         temperature = startTemperature
+               + (endTemperature - startTemperature) * done;
+      }
+      return temperature;
+   } // temperature
+
+   /*
+    * private classes*****************
+    */
+
+   /************************************************************************
+    * Chain - This class is a thread that runs one annealing chain with its
+    *       own solver and random number generator.
+    ************************************************************************/
+   private class Chain extends Thread
+   {
+      private final SplittableRandom random;
+      private final long timeLimit;
+      private final long moveLimit;
+      private final int targetScore;
+      private Throwable failure = null;
+
+      public Chain (SplittableRandom random, long timeLimit, long moveLimit,
+            int targetScore)
+      {
+         super ("BoardOptimizer chain");
+         this.random = random;
+         this.timeLimit = timeLimit;
+         this.moveLimit = moveLimit;
+         this.targetScore = targetScore;
+         setDaemon (true);
+      }
+
+      public void run ()
+      {
+         try
+         {
+            anneal ();
+         }
+         catch (Throwable t)
+         {
+            failure = t;
+            stopped = true;
+         }
+      }
+
+      /*********************************************************************
+       * anneal - This method runs the chain until a stop condition is met.
+       *********************************************************************/
+      private void anneal ()
+      {
+         IncrementalSolver solver = new IncrementalSolver (graph,
+               new BoardGenerator (random.nextLong (), rows, columns).next ());
+         int cellCount = rows * columns;
+         int score = solver.getScore ();
+         int best = score;
+         long done = 0;
+         double temperature = startTemperature;
+
+         offerBest (solver);
+
+         while (!stopped && done < moveLimit
+               && (targetScore <= 0 || best < targetScore))
+         {
+            long accepted = 0;
+            int count = (int) Math.min (MOVES_PER_CHECK, moveLimit - done);
+
+            for (int i = 0; i < count; i++)
+            {
+               // Make a move, remembering how to undo it
+               int first = random.nextInt (cellCount);
+               int second = first;
+               char letter = solver.getCell (first);
+               char otherLetter = letter;
+
+               if (cellCount > 1 && random.nextBoolean ())
+               {
+                  second = random.nextInt (cellCount - 1);
+                  second += (second >= first) ? 1 : 0;
+                  otherLetter = solver.getCell (second);
+                  solver.setCell (first, otherLetter);
+                  solver.setCell (second, letter);
+               }
+               else
+               {
+                  solver.setCell (first, BoardGenerator.randomLetter (random));
+               }
+
+               int newScore = solver.getScore ();
+               int change = newScore - score;
+
+               if (change >= 0 || (temperature > 0
+                     && random.nextDouble () < Math.exp (change / temperature)))
+               {
+                  score = newScore;
+                  accepted++;
+
+                  if (score > best)
+                  {
+                     best = score;
+                     offerBest (solver);
+                  }
+               }
+               else
+               {
+                  solver.setCell (second, otherLetter);
+                  solver.setCell (first, letter);
+               }
+            }
+
+            done += count;
+            moves.addAndGet (count);
+            acceptedMoves.addAndGet (accepted);
+
+            long elapsed = System.nanoTime () - start;
+
+            if (elapsed >= timeLimit)
+            {
+               stopped = true;
+            }
+
+            if (targetScore > 0 && best >= targetScore)
+            {
+               stopped = true;
+            }
+            temperature = temperature (Math.min (1, Math.max (
+                  (double) done / moveLimit, (double) elapsed / timeLimit)));
+         }
+      }
+   } // Chain
+
+} // BoardOptimizer
@@ -0,0 +1,159 @@
+package model;
+
+/***************************************************************************
+ * BoardRating - This class holds the difficulty of a board and the
+ *       features it was worked out from: the number of words on the board,
+ *       their total score, the length of the longest word, the share of
+ *       the cells holding a rare letter, and the number of different
+ *       letters that start a word. Ratings are made by DifficultyRater and
+ *       do not change.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class BoardRating
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final int wordCount;
+   private final int score;
+   private final int longestWord;
+   private final double rareLetterShare;
+   private final int startLetterCount;
+   private final int difficulty;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * BoardRating - This method constructs a BoardRating from the features
+    *       of a board and the difficulty worked out from them.
+    *
+    * @param int, int, int, double, int, int
+    ************************************************************************/
+   BoardRating (int wordCount, int score, int longestWord,
+         double rareLetterShare, int startLetterCount, int difficulty)
+   {
+      this.wordCount = wordCount;
+      this.score = score;
+      this.longestWord = longestWord;
+      this.rareLetterShare = rareLetterShare;
+      this.startLetterCount = startLetterCount;
+      this.difficulty = difficulty;
+   } // BoardRating
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getDifficulty - This method returns the difficulty, from 0 for the
+    *       easiest boards to 100 for the hardest.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getDifficulty ()
+   {
+      return difficulty;
+   } // getDifficulty
+
+   /************************************************************************
+    * getLongestWord - This method returns the length of the longest word
+    *       on the board, or 0 if there are no words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getLongestWord ()
+   {
+      return longestWord;
+   } // getLongestWord
+
+   /************************************************************************
+    * getRareLetterShare - This method returns the share of the cells, from
+    *       0 to 1, that hold a rare letter.
+    *
+    * @return double
+    * @param none
+    ************************************************************************/
+   public double getRareLetterShare ()
+   {
+      return rareLetterShare;
+   } // getRareLetterShare
+
+   /************************************************************************
+    * getScore - This method returns the total score of the words on the
+    *       board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getScore ()
+   {
+      return score;
+   } // getScore
+
+   /************************************************************************
+    * getStartLetterCount - This method returns the number of different
+    *       letters that start a word on the board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getStartLetterCount ()
+   {
+      return startLetterCount;
+   } // getStartLetterCount
+
+   /************************************************************************
+    * getWordCount - This method returns the number of words on the board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getWordCount ()
+   {
+      return wordCount;
+   } // getWordCount
+
+   /************************************************************************
+    * isInBand - This method returns true if the difficulty is from min to
+    *       max, inclusive.
+    *
+    * @return boolean
+    * @param int, int
+    ************************************************************************/
+   public boolean isInBand (int min, int max)
+   {
+      return difficulty >= min && difficulty <= max;
+   } // isInBand
+
+   /************************************************************************
+    * toString - This method provides a string representation of the
+    *       rating.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      return String.format ("difficulty %d (%d words, score %d, longest %d,"
+            + " %.0f%% rare letters, %d start letters)", difficulty,
+            wordCount, score, longestWord, rareLetterShare * 100,
+            startLetterCount);
+   } // toString
+
+} // BoardRating
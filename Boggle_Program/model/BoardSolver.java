@@ -0,0 +1,878 @@
+package model;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import utilities.WordGraph;
+
+/***************************************************************************
+ * BoardSolver - This class finds the dictionary words on boards by walking
+ *       each board against the dictionary's word graph. Each path carries
+ *       the graph node of its letters and the number of words before them,
+ *       which is the word's ordinal where a word ends, so the graph is read
+ *       as it is, mapped or not, and nothing is built per word. A solver
+ *       keeps its scratch space (which words have been found, and the list
+ *       of found ordinals) between boards, so solving many boards allocates
+ *       only the results. A solver must only be used by one thread at a
+ *       time; use forThread to get one that belongs to the calling thread.
+ *       On boards with many repeated letters the solver skips search states
+ *       it has already explored, using the thread's SearchMemo.
+ *
+ *       bestWords and hasWordOfLength look for only the longest words, in
+ *       branch and bound fashion: the steps from a cell are tried longest
+ *       possible word first, and a step is not taken if the longest word
+ *       below it in the word graph, or the cells left on the board, cannot
+ *       make it onto the list.
+ *
+ *       solve and count can use either of two strategies. Board-driven
+ *       search walks the board against the word graph as above.
+ *       Word-driven search walks the word graph against the board's letter
+ *       counts and adjacent letter pairs, and searches the board for a
+ *       path only for the words whose letters fit. Both allocate nothing
+ *       but the results. Word-driven search is faster only on small word
+ *       lists, so AUTOMATIC uses board-driven search; see chooseStrategy.
+ *       The metrics record which strategy each solve used.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class BoardSolver
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final int AUTOMATIC = 0;     // strategies
+   public static final int BOARD_DRIVEN = 1;
+   public static final int WORD_DRIVEN = 2;
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int ALPHABET_SIZE = 26;
+
+   private static final ThreadLocal<BoardSolver> threadSolver =
+         new ThreadLocal<BoardSolver> ();
+
+   /*
+    * attributes*************
+    */
+
+   private WordGraph graph;
+   private int[] marks;               // stamp of the last solve finding each word
+   private int stamp = 0;
+   private int[] found = new int[64]; // ordinals found by the current solve
+   private int foundCount = 0;
+   private int foundScore = 0;
+
+   private Board board;               // board being solved
+   private char[] cells;
+   private int[][] neighbors;
+   private SearchMemo memo;           // null unless memoizing
+   private WordStats stats;           // null unless only counting
+   private char firstLetter;          // letter the current paths start with
+
+   private int[] bestOrdinals = new int[16];  // heap, worst word at the top
+   private int[] bestLengths = new int[16];
+   private int bestCount = 0;
+   private int bestLimit = 0;         // number of words wanted
+   private int bestMinLength = 0;     // shortest word that can still get in
+   private boolean stopWhenFull = false;
+   private long[][] steps = new long[Board.MAX_CELLS + 1][]; // per length
+   private int[][] stepNodes = new int[Board.MAX_CELLS + 1][];
+   private int[][] stepPrefixes = new int[Board.MAX_CELLS + 1][];
+
+   private final char[] letters = new char[Board.MAX_CELLS]; // word-driven
+   private final CharBuffer word = CharBuffer.wrap (letters);
+   private final int[] usedLetters = new int[ALPHABET_SIZE];
+
+   private int strategy = AUTOMATIC;
+   private final SolverMetrics metrics = new SolverMetrics ();
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * BoardSolver - This method constructs a BoardSolver for the words in
+    *       the given word graph.
+    *
+    * @param WordGraph
+    ************************************************************************/
+   public BoardSolver (WordGraph graph)
+   {
+      useGraph (graph);
+   } // BoardSolver
+
+   /************************************************************************
+    * BoardSolver - This method constructs a BoardSolver for the words
+    *       currently in the given dictionary.
+    *
+    * @param Dictionary
+    ************************************************************************/
+   public BoardSolver (Dictionary dictionary)
+   {
+      this (dictionary.getWordGraph ());
+   } // BoardSolver
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * bestWords - This method returns the ordinals of up to the given number
+    *       of best words on the board, best first. Longer words are better,
+    *       as they score at least as much, and words of the same length are
+    *       in alphabetical order. The words are given by the word graph's
+    *       wordAt.
+    *
+    * @return int[]
+    * @param Board, int
+    ************************************************************************/
+   public int[] bestWords (Board board, int count)
+   {
+      if (count < 0)
+      {
+         throw new IllegalArgumentException ("Negative word count: "
+               + count);
+      }
+      findBest (board, count, Scoring.MIN_WORD_LENGTH, false);
+
+      long[] ranks = new long[bestCount];
+
+      for (int i = 0; i < bestCount; i++)
+      {
+         ranks[i] = ((long) (Board.MAX_CELLS - bestLengths[i]) << 32)
+               | bestOrdinals[i];
+      }
+      Arrays.sort (ranks);
+
+      int[] ordinals = new int[bestCount];
+
+      for (int i = 0; i < bestCount; i++)
+      {
+         ordinals[i] = (int) ranks[i];
+      }
+      return ordinals;
+   } // bestWords
+
+   /************************************************************************
+    * chooseStrategy - This method returns the strategy AUTOMATIC uses for
+    *       the board, which is always BOARD_DRIVEN. StrategyBenchmark found
+    *       board-driven search as fast or faster on the whole of both the
+    *       learned dictionary.txt and a 270,000 word list, on 4x4 to 6x6
+    *       boards. Word-driven search only won on small samples of a list,
+    *       and the sample size below which it won went from about 100 words
+    *       to over 10,000 with the list, so no count of words could tell
+    *       the two apart. Set WORD_DRIVEN for a list known to be small.
+    *
+    * @return int
+    * @param Board
+    ************************************************************************/
+   public int chooseStrategy (Board board)
+   {
+      return BOARD_DRIVEN;
+   } // chooseStrategy
+
+   /************************************************************************
+    * count - This method counts the words of 3 or more letters on the
+    *       board, their score and their lengths into the given WordStats,
+    *       which is cleared first, and returns it. No words or ordinals are
+    *       kept, so counting board after board into the same WordStats
+    *       allocates nothing. The strategy is chosen as for solve.
+    *
+    * @return WordStats
+    * @param Board, WordStats
+    ************************************************************************/
+   public WordStats count (Board board, WordStats stats)
+   {
+      long start = System.nanoTime ();
+      int chosen = strategyFor (board);
+
+      begin (board, board.isRepetitive ());
+      stats.clear ();
+      this.stats = stats;
+
+      try
+      {
+         findWordsBy (chosen);
+      }
+      finally
+      {
+         this.stats = null;
+      }
+      metrics.record (chosen, System.nanoTime () - start,
+            stats.getWordCount ());
+      return stats;
+   } // count
+
+   /************************************************************************
+    * forThread - This method returns the calling thread's solver for the
+    *       given word graph, making one if the thread has none. A solver
+    *       last used with a different graph is switched to this one and
+    *       keeps its scratch space, so a new version of the dictionary does
+    *       not cost a new solver.
+    *
+    * @return BoardSolver
+    * @param WordGraph
+    ************************************************************************/
+   public static BoardSolver forThread (WordGraph graph)
+   {
+      BoardSolver solver = threadSolver.get ();
+
+      if (solver == null)
+      {
+         solver = new BoardSolver (graph);
+         threadSolver.set (solver);
+      }
+      else if (solver.graph != graph)
+      {
+         solver.useGraph (graph);
+      }
+      return solver;
+   } // forThread
+
+   /************************************************************************
+    * getMetrics - This method returns the solver's metrics: the number of
+    *       solves and counts done with each strategy, and the last strategy
+    *       used.
+    *
+    * @return SolverMetrics
+    * @param none
+    ************************************************************************/
+   public SolverMetrics getMetrics ()
+   {
+      return metrics;
+   } // getMetrics
+
+   /************************************************************************
+    * getWordGraph - This method returns the word graph the solver uses.
+    *
+    * @return WordGraph
+    * @param none
+    ************************************************************************/
+   public WordGraph getWordGraph ()
+   {
+      return graph;
+   } // getWordGraph
+
+   /************************************************************************
+    * hasWordOfLength - This method returns true if the board has a word of
+    *       at least the given length (and at least 3 letters). The search
+    *       stops at the first such word.
+    *
+    * @return boolean
+    * @param Board, int
+    ************************************************************************/
+   public boolean hasWordOfLength (Board board, int minLength)
+   {
+      findBest (board, 1, Math.max (minLength, Scoring.MIN_WORD_LENGTH),
+            true);
+      return bestCount > 0;
+   } // hasWordOfLength
+
+   /************************************************************************
+    * setStrategy - This method sets the strategy used by solve and count:
+    *       AUTOMATIC (the default) to choose one for each board,
+    *       BOARD_DRIVEN or WORD_DRIVEN.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   public void setStrategy (int strategy)
+   {
+      if (strategy < AUTOMATIC || strategy > WORD_DRIVEN)
+      {
+         throw new IllegalArgumentException ("Unknown strategy: "
+               + strategy);
+      }
+      this.strategy = strategy;
+   } // setStrategy
+
+   /************************************************************************
+    * solve - This method finds all the words of 3 or more letters on the
+    *       board, memoizing the search if the board has many repeated
+    *       letters.
+    *
+    * @return SolveResult
+    * @param Board
+    ************************************************************************/
+   public SolveResult solve (Board board)
+   {
+      return solve (board, board.isRepetitive ());
+   } // solve
+
+   /************************************************************************
+    * solve - This method finds all the words of 3 or more letters on the
+    *       board. When memoize is true, search states that have already
+    *       been explored are skipped. The strategy is the one set by
+    *       setStrategy, or chosen by chooseStrategy.
+    *
+    * @return SolveResult
+    * @param Board, boolean
+    ************************************************************************/
+   public SolveResult solve (Board board, boolean memoize)
+   {
+      long start = System.nanoTime ();
+      int chosen = strategyFor (board);
+
+      begin (board, memoize);
+      findWordsBy (chosen);
+
+      SolveResult result = finish ();
+
+      metrics.record (chosen, System.nanoTime () - start,
+            result.getWordCount ());
+      return result;
+   } // solve
+
+   /*
+    * package methods*****************
+    */
+
+   /************************************************************************
+    * solveFrom - This method finds the words on the board whose paths
+    *       start at firstCell and step next to secondCell, and returns
+    *       their ordinals in no particular order.
+    *
+    * @return int[]
+    * @param Board, int, int
+    ************************************************************************/
+   int[] solveFrom (Board board, int firstCell, int secondCell)
+   {
+      begin (board, board.isRepetitive ());
+
+      int node = graph.child (graph.root (), cells[firstCell]);
+
+      if (node != WordGraph.NO_NODE)
+      {
+         int prefix = graph.wordsBefore (graph.root (),
+               cells[firstCell] - 'a');
+         int child = graph.child (node, cells[secondCell]);
+
+         if (child != WordGraph.NO_NODE)
+         {
+            findWords (secondCell, child, prefix + graph.wordsBefore (node,
+                  cells[secondCell] - 'a'), 2,
+                  (1L << firstCell) | (1L << secondCell));
+         }
+      }
+      return Arrays.copyOf (found, foundCount);
+   } // solveFrom
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * addStep - This method adds a step to the given cell, graph node and
+    *       prefix ordinal, whose path has the given length, to the steps
+    *       out of the path one shorter, keeping them sorted by the length of
+    *       the longest word the step could lead to, and returns the new
+    *       number of steps. The step's node and prefix are kept beside the
+    *       steps, at the place numbered in the step. A step that cannot
+    *       lead to a word long enough to get into the heap of best words is
+    *       left out.
+    *
+    * @return int
+    * @param int, int, int, int, int
+    ************************************************************************/
+   private int addStep (int stepCount, int cell, int node, int prefix,
+         int length)
+   {
+      int reach = Math.min (length + graph.suffixLength (node), cells.length);
+
+      if (reach >= bestMinLength)
+      {
+         long[] order = steps[length - 1];
+         long step = ((long) reach << 32) | (stepCount << 6) | cell;
+         int i = stepCount;
+
+         stepNodes[length - 1][stepCount] = node;
+         stepPrefixes[length - 1][stepCount] = prefix;
+
+         while (i > 0 && order[i - 1] > step)
+         {
+            order[i] = order[i - 1];
+            i--;
+         }
+         order[i] = step;
+         stepCount++;
+      }
+      return stepCount;
+   } // addStep
+
+   /************************************************************************
+    * begin - This method gets ready to solve a board. Rather than clearing
+    *       the marks, each solve uses a new stamp; the marks are only
+    *       cleared when the stamp wraps around.
+    *
+    * @return none
+    * @param Board, boolean
+    ************************************************************************/
+   private void begin (Board board, boolean memoize)
+   {
+      this.board = board;
+      cells = board.getCells ();
+      neighbors = board.getNeighbors ();
+      memo = memoize ? SearchMemo.forThread () : null;
+
+      if (memo != null)
+      {
+         memo.begin ();
+      }
+      foundCount = 0;
+      foundScore = 0;
+      stamp++;
+
+      if (stamp == 0)
+      {
+         Arrays.fill (marks, 0);
+         stamp = 1;
+      }
+   } // begin
+
+   /************************************************************************
+    * finish - This method sorts the ordinals found, scores them and
+    *       returns the result.
+    *
+    * @return SolveResult
+    * @param none
+    ************************************************************************/
+   private SolveResult finish ()
+   {
+      int[] ordinals = Arrays.copyOf (found, foundCount);
+
+      Arrays.sort (ordinals);
+      return new SolveResult (ordinals, foundScore);
+   } // finish
+
+   /************************************************************************
+    * findAllWords - This method finds the words starting at every cell of
+    *       the board.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void findAllWords ()
+   {
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         int node = graph.child (graph.root (), cells[cell]);
+
+         if (node != WordGraph.NO_NODE)
+         {
+            firstLetter = cells[cell];
+            findWords (cell, node, graph.wordsBefore (graph.root (),
+                  cells[cell] - 'a'), 1, 1L << cell);
+         }
+      }
+   } // findAllWords
+
+   /************************************************************************
+    * findBest - This method finds up to limit of the longest words of at
+    *       least minLength letters on the board into the heap of best
+    *       words. If stopWhenFull is true the search stops as soon as the
+    *       heap is full.
+    *
+    * @return none
+    * @param Board, int, int, boolean
+    ************************************************************************/
+   private void findBest (Board board, int limit, int minLength,
+         boolean stopWhenFull)
+   {
+      begin (board, board.isRepetitive ());
+
+      if (bestOrdinals.length < limit)
+      {
+         bestOrdinals = new int[limit];
+         bestLengths = new int[limit];
+      }
+      bestCount = 0;
+      bestLimit = limit;
+      bestMinLength = minLength;
+      this.stopWhenFull = stopWhenFull;
+
+      long[] order = stepsAt (0);
+      int stepCount = 0;
+
+      for (int cell = 0; cell < cells.length && limit > 0; cell++)
+      {
+         int node = graph.child (graph.root (), cells[cell]);
+
+         if (node != WordGraph.NO_NODE)
+         {
+            stepCount = addStep (stepCount, cell, node, graph.wordsBefore (
+                  graph.root (), cells[cell] - 'a'), 1);
+         }
+      }
+
+      for (int i = stepCount - 1; i >= 0 && isSearching (); i--)
+      {
+         int cell = (int) order[i] & 63;
+         int step = (int) order[i] >>> 6;
+
+         if ((int) (order[i] >>> 32) >= bestMinLength)
+         {
+            findBestFrom (cell, stepNodes[0][step], stepPrefixes[0][step], 1,
+                  1L << cell);
+         }
+      }
+   } // findBest
+
+   /************************************************************************
+    * findBestFrom - This method recursively follows the board from the
+    *       given cell like findWords, offering the words it finds to the
+    *       heap of best words. The steps from the cell are tried longest
+    *       possible word first, and a step is skipped if it cannot reach a
+    *       word long enough to get into the heap.
+    *
+    * @return none
+    * @param int, int, int, int, long
+    ************************************************************************/
+   private void findBestFrom (int cell, int node, int prefix, int length,
+         long visited)
+   {
+      if (length >= bestMinLength && graph.isWord (node)
+            && marks[prefix] != stamp)
+      {
+         marks[prefix] = stamp;
+         offerBest (prefix, length);
+      }
+
+      long[] order = stepsAt (length);
+      int stepCount = 0;
+      int[] adjacent = neighbors[cell];
+
+      for (int k = 0; k < adjacent.length; k++)
+      {
+         int neighbor = adjacent[k];
+
+         if ((visited & (1L << neighbor)) == 0)
+         {
+            int child = graph.child (node, cells[neighbor]);
+
+            if (child != WordGraph.NO_NODE)
+            {
+               stepCount = addStep (stepCount, neighbor, child, prefix
+                     + graph.wordsBefore (node, cells[neighbor] - 'a'),
+                     length + 1);
+            }
+         }
+      }
+
+      for (int i = stepCount - 1; i >= 0 && isSearching (); i--)
+      {
+         int neighbor = (int) order[i] & 63;
+         int step = (int) order[i] >>> 6;
+         int childPrefix = stepPrefixes[length][step];
+         long path = visited | (1L << neighbor);
+
+         if ((int) (order[i] >>> 32) >= bestMinLength && (memo == null
+               || length < 2 || memo.visit (neighbor, childPrefix, path)))
+         {
+            findBestFrom (neighbor, stepNodes[length][step], childPrefix,
+                  length + 1, path);
+         }
+      }
+   } // findBestFrom
+
+   /************************************************************************
+    * findListedWords - This method checks the words of 3 or more letters
+    *       below the given graph node against the board, recording those on
+    *       it. The node's letters are the first length letters of the word,
+    *       previous is the last of them ('a' being 0, or -1 for none) and
+    *       prefix is the number of words before them. A letter is only
+    *       followed if the board has it more often than the word uses it so
+    *       far and, after the first, has it next to the letter before it, so
+    *       only words that fit the board's letter counts and pairs are
+    *       searched for.
+    *
+    * @return none
+    * @param int, int, int, int
+    ************************************************************************/
+   private void findListedWords (int node, int prefix, int length,
+         int previous)
+   {
+      if (length >= Scoring.MIN_WORD_LENGTH && graph.isWord (node))
+      {
+         word.limit (length);
+
+         if (board.hasPath (word, memo != null))
+         {
+            firstLetter = letters[0];
+            recordWord (prefix, length);
+         }
+      }
+
+      if (length < cells.length)
+      {
+         byte[] letterCounts = board.getLetterCounts ();
+         long[] letterPairs = board.getLetterPairs ();
+         int childLetters = graph.childLetters (node);
+
+         while (childLetters != 0)
+         {
+            int letter = Integer.numberOfTrailingZeros (childLetters);
+            int pair = previous * ALPHABET_SIZE + letter;
+
+            childLetters &= childLetters - 1;
+
+            if (usedLetters[letter] < letterCounts[letter] && (previous < 0
+                  || (letterPairs[pair >>> 6] & (1L << pair)) != 0))
+            {
+               letters[length] = (char) ('a' + letter);
+               usedLetters[letter]++;
+               findListedWords (graph.child (node, letters[length]), prefix
+                     + graph.wordsBefore (node, letter), length + 1, letter);
+               usedLetters[letter]--;
+            }
+         }
+      }
+   } // findListedWords
+
+   /************************************************************************
+    * findWords - This method recursively follows the board from the given
+    *       cell while the letters on the path are a prefix in the graph,
+    *       recording the words of 3 or more letters it finds, or only
+    *       counting them if there are stats. The node is the graph node of
+    *       the path's letters and prefix the number of words before them.
+    *       The cells already on the path are the set bits of visited. When
+    *       memoizing, a step is skipped if its state was explored before; a
+    *       state of fewer than 3 cells can only be reached one way.
+    *
+    * @return none
+    * @param int, int, int, int, long
+    ************************************************************************/
+   private void findWords (int cell, int node, int prefix, int length,
+         long visited)
+   {
+      if (length >= Scoring.MIN_WORD_LENGTH && graph.isWord (node))
+      {
+         recordWord (prefix, length);
+      }
+
+      int[] adjacent = neighbors[cell];
+
+      for (int k = 0; k < adjacent.length; k++)
+      {
+         int neighbor = adjacent[k];
+
+         if ((visited & (1L << neighbor)) == 0)
+         {
+            int child = graph.child (node, cells[neighbor]);
+
+            if (child != WordGraph.NO_NODE)
+            {
+               int childPrefix = prefix + graph.wordsBefore (node,
+                     cells[neighbor] - 'a');
+
+               if (memo == null || length < 2 || memo.visit (neighbor,
+                     childPrefix, visited | (1L << neighbor)))
+               {
+                  findWords (neighbor, child, childPrefix, length + 1,
+                        visited | (1L << neighbor));
+               }
+            }
+         }
+      }
+   } // findWords
+
+   /************************************************************************
+    * findWordsBy - This method finds the words on the board with the given
+    *       strategy.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   private void findWordsBy (int chosen)
+   {
+      if (chosen == WORD_DRIVEN)
+      {
+         findListedWords (graph.root (), 0, 0, -1);
+      }
+      else
+      {
+         findAllWords ();
+      }
+   } // findWordsBy
+
+   /************************************************************************
+    * isSearching - This method returns false once a search for the best
+    *       words that stops when the heap is full has filled it.
+    *
+    * @return boolean
+    * @param none
+    ************************************************************************/
+   private boolean isSearching ()
+   {
+      return !(stopWhenFull && bestCount == bestLimit);
+   } // isSearching
+
+   /************************************************************************
+    * isWorse - This method returns true if the given word is worse than the
+    *       word at the given place in the heap: shorter, or the same length
+    *       and later in alphabetical order.
+    *
+    * @return boolean
+    * @param int, int, int
+    ************************************************************************/
+   private boolean isWorse (int ordinal, int length, int place)
+   {
+      return length < bestLengths[place] || (length == bestLengths[place]
+            && ordinal > bestOrdinals[place]);
+   } // isWorse
+
+   /************************************************************************
+    * offerBest - This method adds a word to the heap of best words if it is
+    *       better than the worst one there, or the heap is not full. Once
+    *       the heap is full, only words at least as long as its worst word
+    *       can still get in.
+    *
+    * @return none
+    * @param int, int
+    ************************************************************************/
+   private void offerBest (int ordinal, int length)
+   {
+      if (bestCount < bestLimit)
+      {
+         int i = bestCount;
+
+         bestCount++;
+
+         while (i > 0 && isWorse (ordinal, length, (i - 1) / 2))
+         {
+            bestOrdinals[i] = bestOrdinals[(i - 1) / 2];
+            bestLengths[i] = bestLengths[(i - 1) / 2];
+            i = (i - 1) / 2;
+         }
+         bestOrdinals[i] = ordinal;
+         bestLengths[i] = length;
+      }
+      else if (bestLimit > 0 && !isWorse (ordinal, length, 0))
+      {
+         int i = 0;
+         int child = 1;
+
+         while (child < bestCount)
+         {
+            if (child + 1 < bestCount && isWorse (bestOrdinals[child + 1],
+                  bestLengths[child + 1], child))
+            {
+               child++;
+            }
+
+            if (isWorse (ordinal, length, child))
+            {
+               child = bestCount;
+            }
+            else
+            {
+               bestOrdinals[i] = bestOrdinals[child];
+               bestLengths[i] = bestLengths[child];
+               i = child;
+               child = 2 * i + 1;
+            }
+         }
+         bestOrdinals[i] = ordinal;
+         bestLengths[i] = length;
+      }
+
+      if (bestCount == bestLimit)
+      {
+         bestMinLength = Math.max (bestMinLength, bestLengths[0]);
+      }
+   } // offerBest
+
+   /************************************************************************
+    * recordWord - This method records a word found by the current solve,
+    *       unless it was already found, or only counts it if there are
+    *       stats.
+    *
+    * @return none
+    * @param int, int
+    ************************************************************************/
+   private void recordWord (int ordinal, int length)
+   {
+      if (marks[ordinal] != stamp)
+      {
+         marks[ordinal] = stamp;
+
+         if (stats != null)
+         {
+            stats.addWord (length, firstLetter);
+         }
+         else
+         {
+            if (foundCount == found.length)
+            {
+               found = Arrays.copyOf (found, foundCount * 2);
+            }
+            found[foundCount] = ordinal;
+            foundCount++;
+            foundScore += Scoring.wordScore (length);
+         }
+      }
+   } // recordWord
+
+   /************************************************************************
+    * stepsAt - This method returns the scratch array for the steps out of
+    *       a path of the given length, making it and the arrays of the
+    *       steps' nodes and prefixes the first time.
+    *
+    * @return long[]
+    * @param int
+    ************************************************************************/
+   private long[] stepsAt (int length)
+   {
+      if (steps[length] == null)
+      {
+         steps[length] = new long[Board.MAX_CELLS];
+         stepNodes[length] = new int[Board.MAX_CELLS];
+         stepPrefixes[length] = new int[Board.MAX_CELLS];
+      }
+      return steps[length];
+   } // stepsAt
+
+   /************************************************************************
+    * strategyFor - This method returns the strategy to solve the board
+    *       with: the one set, or the one chosen for the board.
+    *
+    * @return int
+    * @param Board
+    ************************************************************************/
+   private int strategyFor (Board board)
+   {
+      return (strategy == AUTOMATIC) ? chooseStrategy (board) : strategy;
+   } // strategyFor
+
+   /************************************************************************
+    * useGraph - This method makes the solver find the words of the given
+    *       word graph. The marks only count for the current stamp, so they
+    *       are kept if they are big enough, and grown with room for words
+    *       learned later if not.
+    *
+    * @return none
+    * @param WordGraph
+    ************************************************************************/
+   private void useGraph (WordGraph graph)
+   {
+      this.graph = graph;
+
+      if (marks == null || marks.length < graph.size ())
+      {
+         marks = new int[graph.size () + graph.size () / 16];
+      }
+   } // useGraph
+
+} // BoardSolver
@@ -1,6 +1,7 @@
 package model;
 
-import utilities.StringSet;
+import java.util.BitSet;
+
 import model.Board;
 import model.Dictionary;
 
@@ -17,7 +18,8 @@ import model.Dictionary;
 *
 *   None
 *          
-* Modifications: 12/04/2012: Updated to support graphical user interface.
+* Modifications: 10/18/2026: Added addWords for a set of word ordinals.
+*                12/04/2012: Updated to support graphical user interface.
 *
 ***************************************************************************/
 
@@ -51,7 +53,19 @@ public class ComputerPlayer extends Player
    ************************************************************************/
    public void addWords (String word)
    {
-      roundWords.addWord (word);   
+      roundWords.set (dictionary.ordinalOf (word));   
    } // playRound
 
+   /************************************************************************
+   * addWords - This method adds the words the computer finds for a round,
+   *       given as dictionary ordinals.
+   *
+   * @return none
+   * @param BitSet
+   ************************************************************************/
+   public void addWords (BitSet ordinals)
+   {
+      roundWords.or (ordinals);
+   } // addWords
+
 } // ComputerPlayer
\ No newline at end of file
@@ -1,21 +1,64 @@
 package model;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Random;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import utilities.TextIO;
+import utilities.WordGraph;
+import utilities.WordJournal;
 
 /***************************************************************************
  * Dictionary - This class reads words (not necessarily sorted) from a text
  *       file (which may not exist or be readable), stores them alphabetically
- *       in an TreeSet, accepts new words and stores them alphabetically, and 
- *       writes the words back to the file when the program is done. The 
- *       dictionary does not store duplicates. The Dictionary will only store 
- *       about 300 words in the file, so if it grows large during execution 
- *       of the program, it will randomly select 300 words to write back to 
- *       the file. The dictionary file stores one word one per line.
+ *       in a WordGraph, and accepts new words and stores them alphabetically.
+ *       The dictionary does not store duplicates. The dictionary file stores
+ *       one word one per line.
+ *
+ *       Words learned and rejected are not written back when the program is
+ *       done. Each batch of them is added to a journal file next to the
+ *       dictionary file as it is published, and the journal is read over
+ *       the file the next time the program is run, so a crash loses at most
+ *       the batch being published. Once the journal holds more than a small
+ *       part of the words, all the words are written to the dictionary file
+ *       and the journal is started again.
+ *
+ *       Every word the game sees is given an ordinal that stays the same for
+ *       as long as the program runs, even if the word is removed: the words
+ *       read from the file are numbered in alphabetical order, and any other
+ *       word gets the next number the first time it is asked for. Players
+ *       and scoring keep sets of these ordinals rather than strings.
+ *
+ *       The WordGraph cannot change, so words added and removed are kept in
+ *       small sorted sets next to it and merged into a new graph once there
+ *       are enough of them. Until then each snapshot's graph is made from
+ *       the last one by WordGraph.withChanges, which copies only the paths
+ *       to the words changed in between. Words with characters other than
+ *       'a' to 'z' cannot go in the graph and are always kept in a set.
+ *
+ *       Readers never lock or wait for the words to change. They read the
+ *       current DictionarySnapshot, which does not change; words added and
+ *       removed are collected and published as a new snapshot with the
+ *       next version once there are PUBLISH_SIZE of them, or when
+ *       publishChanges is called. The ordinals are handed out under a lock
+ *       of their own that learning never holds.
+ *
+ *       The file may instead be a word graph image made by
+ *       DictionaryCompiler, which is mapped into memory rather than read.
+ *       It has a journal too, and all the words are then written to a new
+ *       image. A mapped file cannot be replaced on every system, so the new
+ *       image is written next to it with a journal of its own, which takes
+ *       over from the old one; the pair take the old files' places the next
+ *       time the dictionary is read, before the image is mapped.
  * 
  * @author Alexander Anderson
  * @version 2.0 (October 28, 2012)
@@ -28,19 +71,65 @@ import utilities.TextIO;
  * 
  * Modifications: 10/28/2012: Added a method to return all the words in the
  *                            dictionary that start with a given prefix.
+ *                10/18/2026: Added a prefix tree of the words for the
+ *                            board solver.
+ *                10/18/2026: Added a version number that changes with the
+ *                            words, for the solution cache.
+ *                10/18/2026: Added stable word ordinals.
+ *                10/18/2026: Stored the words in a WordGraph with sets of
+ *                            added and removed words merged in later.
+ *                10/18/2026: Added loading a compiled word graph image.
+ *                10/18/2026: Readers use snapshots published in batches.
+ *                10/18/2026: Learned and rejected words go to a journal as
+ *                            they are published instead of 300 random
+ *                            words being written back at the end.
+ *                10/18/2026: The solvers walk a word graph instead of a
+ *                            prefix tree.
+ *                10/18/2026: Snapshots share the merged word graph and
+ *                            copy only the paths to changed words.
+ *                10/18/2026: A compacted image is written next to the mapped
+ *                            one and replaces it at the next start.
  ***************************************************************************/
 
 public class Dictionary
 {
 
+   /*
+    * package static attributes****************************
+    */
+
+   static final int PUBLISH_SIZE = 64;      // changes kept before publishing
+   static final int MIN_MERGE_SIZE = 256;   // changes kept before merging
+   static final int MERGE_FRACTION = 16;    // or this fraction of the words
+   static final int MIN_COMPACT_SIZE = 1024; // journal changes kept in it
+   static final int COMPACT_FRACTION = 4;    // or this fraction of the words
+   static final String JOURNAL_SUFFIX = ".journal";
+   static final String NEXT_SUFFIX = ".next";  // compacted, not yet used
+
    /*
     * attributes*************
     */
 
    private int difficulty = 5;
    private Random randomNumber = new Random (System.nanoTime ());
-   private SortedSet<String> wordList = new TreeSet<String> ();
+   private WordGraph wordGraph = new WordGraph (new ArrayList<String> ());
+   private TreeSet<String> addedWords = new TreeSet<String> ();
+   private TreeSet<String> removedWords = new TreeSet<String> ();
+   private TreeSet<String> otherWords = new TreeSet<String> (); // not a to z
+   private ArrayList<String> changes =
+         new ArrayList<String> ();      // since the last snapshot
    private String dictionaryFileName = "dictionary.txt";
+   private boolean imageFile = false;   // the file is a word graph image
+   private WordJournal journal = null;  // changes not in the file
+   private boolean compactable = true;  // false once compacting has failed
+   private volatile DictionarySnapshot snapshot = snapshotOf (wordGraph,
+         0);
+
+   // Guarded by laterWords
+   private WordGraph fileWords = wordGraph;   // ordinals 0 up
+   private ArrayList<String> laterWords = new ArrayList<String> ();
+   private HashMap<String, Integer> laterOrdinals =
+         new HashMap<String, Integer> ();
 
    /*
     * constructors***************
@@ -49,7 +138,8 @@ public class Dictionary
    /************************************************************************
     * Dictionary - This method constructs a Boggle Dictionary object with a
     *       default difficulty of 5 and a default dictionary file called
-    *       dictionary.txt.
+    *       dictionary.txt. No file or journal is read or written, so the
+    *       words it learns are not saved.
     * 
     * @param none
     ************************************************************************/
@@ -59,7 +149,8 @@ public class Dictionary
 
    /************************************************************************
     * Dictionary - This method constructs a Boggle Dictionary object with a
-    *       given difficulty rating and dictionary file name.
+    *       given difficulty rating and dictionary file name, and reads the
+    *       file's journal over its words.
     * 
     * @param String
     ************************************************************************/
@@ -72,7 +163,19 @@ public class Dictionary
          dictionaryFileName = fileName;
       }
 
-      readWordsFromFile ();
+      if (WordGraph.isImage (dictionaryFileName))
+      {
+         readWordsFromImage ();
+      }
+      else
+      {
+         readWordsFromFile ();
+      }
+
+      if (dictionaryFileName != null)
+      {
+         readJournal ();
+      }
    } // Dictionary
 
    /*
@@ -87,26 +190,176 @@ public class Dictionary
     * @return none
     * @param String
     ************************************************************************/
-   public void addWordToDictionary (String word)
+   public synchronized void addWordToDictionary (String word)
    {
       // Randomly generate a number between 1 and 10
       int randomInt = randomNumber.nextInt (10) + 1;
 
-      if (randomInt <= difficulty)
+      if (randomInt <= difficulty && addWord (word))
       {
-         wordList.add (word);
+         wordsChanged (WordJournal.ADDED + word);
       }
    } // addWordToDictionary
 
+   /************************************************************************
+    * countWithPrefix - This method returns the number of words in the
+    *       dictionary that start with the given prefix. It takes time in
+    *       the length of the prefix, plus the number of words with the
+    *       prefix that have characters other than 'a' to 'z'.
+    * 
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int countWithPrefix (String prefix)
+   {
+      return snapshot.countWithPrefix (prefix);
+   } // countWithPrefix
+
+   /************************************************************************
+    * getSnapshot - This method returns the current words of the
+    *       dictionary, which do not change as words are learned. A caller
+    *       that needs a word graph and the version it belongs to should
+    *       take both from one snapshot.
+    * 
+    * @return DictionarySnapshot
+    * @param none
+    ************************************************************************/
+   public DictionarySnapshot getSnapshot ()
+   {
+      return snapshot;
+   } // getSnapshot
+
+   /************************************************************************
+    * getVersion - This method returns the version of the words in the
+    *       dictionary. The version goes up every time added or removed words
+    *       are published, so results kept for one version are not used
+    *       after the words change.
+    * 
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getVersion ()
+   {
+      return snapshot.getVersion ();
+   } // getVersion
+
+   /************************************************************************
+    * getWordGraph - This method returns a word graph of the words in the
+    *       dictionary from 'a' to 'z', for the board solvers. The graph is
+    *       never changed, so several threads may search it at once.
+    * 
+    * @return WordGraph
+    * @param none
+    ************************************************************************/
+   public WordGraph getWordGraph ()
+   {
+      return snapshot.getWordGraph ();
+   } // getWordGraph
+
+   /************************************************************************
+    * hasPrefix - This method returns true if some word in the dictionary
+    *       starts with the given prefix.
+    * 
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public boolean hasPrefix (String prefix)
+   {
+      return snapshot.hasPrefix (prefix);
+   } // hasPrefix
+
+   /************************************************************************
+    * ordinalCount - This method returns the number of words that have been
+    *       given ordinals. The ordinals run from 0 up to one less than this.
+    * 
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int ordinalCount ()
+   {
+      synchronized (laterWords)
+      {
+         return fileWords.size () + laterWords.size ();
+      }
+   } // ordinalCount
+
+   /************************************************************************
+    * ordinalOf - This method returns the ordinal of a word, giving it the
+    *       next ordinal if it has never been seen before. The word does not
+    *       have to be in the dictionary.
+    * 
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int ordinalOf (String word)
+   {
+      int ordinal = fileWords.ordinal (word);
+
+      if (ordinal < 0)
+      {
+         synchronized (laterWords)
+         {
+            Integer laterOrdinal = laterOrdinals.get (word);
+
+            if (laterOrdinal == null)
+            {
+               laterOrdinal = fileWords.size () + laterWords.size ();
+               laterWords.add (word);
+               laterOrdinals.put (word, laterOrdinal);
+            }
+            ordinal = laterOrdinal;
+         }
+      }
+      return ordinal;
+   } // ordinalOf
+
+   /************************************************************************
+    * prefixRange - This method returns the words in the dictionary that
+    *       start with the given prefix as a range of the word graph, which
+    *       counts and lists them without copying them. The range does not
+    *       change when words are later added or removed.
+    * 
+    * @return PrefixRange
+    * @param String
+    ************************************************************************/
+   public PrefixRange prefixRange (String prefix)
+   {
+      return snapshot.prefixRange (prefix);
+   } // prefixRange
+
+   /************************************************************************
+    * publishChanges - This method publishes the words added and removed
+    *       since the last snapshot as a new snapshot with the next version,
+    *       then adds them to the journal. Readers go on using the old
+    *       snapshot until the new one is ready.
+    * 
+    * @return none
+    * @param none
+    ************************************************************************/
+   public synchronized void publishChanges ()
+   {
+      if (!changes.isEmpty ())
+      {
+         WordGraph graph = mergeWords () ? wordGraph : nextGraph ();
+
+         snapshot = snapshotOf (graph, snapshot.getVersion () + 1);
+         saveChanges ();
+         changes.clear ();
+      }
+   } // publishChanges
+
    /************************************************************************
     * removeWordFromDictionary - This method removes a word from the dictionary.
     * 
     * @return none
     * @param String
     ************************************************************************/
-   public void removeWordFromDictionary (String word)
+   public synchronized void removeWordFromDictionary (String word)
    {
-      wordList.remove (word);
+      if (removeWord (word))
+      {
+         wordsChanged (WordJournal.REMOVED + word);
+      }
    } // removeWordFromDictionary
 
    /************************************************************************
@@ -123,73 +376,277 @@ public class Dictionary
       }
    } // setDifficulty
 
+   /************************************************************************
+    * toOrdinals - This method returns the dictionary ordinals of a set of
+    *       words given by their ordinals in the given word graph, such as
+    *       the words a solver found. The graph of the file numbers its
+    *       words by their ordinals already; any other graph's words are
+    *       looked up one by one, which takes time in the words in the set,
+    *       not in the graph.
+    * 
+    * @return BitSet
+    * @param WordGraph, BitSet
+    ************************************************************************/
+   public BitSet toOrdinals (WordGraph graph, BitSet words)
+   {
+      BitSet ordinals;
+
+      if (graph == fileWords)
+      {
+         ordinals = (BitSet) words.clone ();
+      }
+      else
+      {
+         ordinals = new BitSet ();
+
+         for (int word = words.nextSetBit (0); word >= 0;
+               word = words.nextSetBit (word + 1))
+         {
+            ordinals.set (ordinalOf (graph.wordAt (word)));
+         }
+      }
+      return ordinals;
+   } // toOrdinals
+
+   /************************************************************************
+    * wordAt - This method returns the word with the given ordinal.
+    * 
+    * @return String
+    * @param int
+    ************************************************************************/
+   public String wordAt (int ordinal)
+   {
+      String word;
+
+      if (ordinal < fileWords.size ())
+      {
+         word = fileWords.wordAt (ordinal);
+      }
+      else
+      {
+         synchronized (laterWords)
+         {
+            word = laterWords.get (ordinal - fileWords.size ());
+         }
+      }
+      return word;
+   } // wordAt
+
    /************************************************************************
     * wordsStartingWith - This method returns words in the dictionary that 
-    *       start with the given prefix.
+    *       start with the given prefix. It copies the words into a new set;
+    *       prefixRange gives the same words without copying them.
     * 
     * @return SortedSet<String>
     * @param String
     ************************************************************************/
    public SortedSet<String> wordsStartingWith (String prefix)
    {
-      SortedSet<String> tail = new TreeSet<String> ();
-      tail = wordList.tailSet (prefix);
+      SortedSet<String> words = new TreeSet<String> ();
+
+      for (String word : prefixRange (prefix))
+      {
+         words.add (word);
+      }
+      return words;
+   } // wordsStartingWith
+
+   /************************************************************************
+    * writeWordsToFile - This method makes sure every word learned or
+    *       rejected is saved for the next time the program is run. Earlier
+    *       changes are already in the journal, so only the last batch is
+    *       published and written.
+    * 
+    * @return none
+    * @param none
+    ************************************************************************/
+   public void writeWordsToFile ()
+   {
+      publishChanges ();
+   } // writeWordsToFile
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * addWord - This method adds a word to the working words, and returns
+    *       true if it was not already there.
+    * 
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   private boolean addWord (String word)
+   {
+      boolean added = !isListed (word);
 
-      if (tail.size () > 0 && prefix.length () > 0)
+      if (added && !removedWords.remove (word))
       {
-         int lastCharacter = prefix.length () - 1;
-         String next = "";
+         (WordGraph.isLowerCase (word) ? addedWords : otherWords).add (word);
+      }
+      return added;
+   } // addWord
 
-         if (prefix.length () > 1)
+   /************************************************************************
+    * changedGraph - This method returns the word graph with the words
+    *       added and removed since it was merged.
+    * 
+    * @return WordGraph
+    * @param none
+    ************************************************************************/
+   private WordGraph changedGraph ()
+   {
+      return wordGraph.withChanges (
+            addedWords.toArray (new String[addedWords.size ()]),
+            removedWords.toArray (new String[removedWords.size ()]));
+   } // changedGraph
+
+   /************************************************************************
+    * compactJournal - This method writes all the words to the dictionary
+    *       file as a word list, or to a new image next to it, and starts
+    *       the journal again. Words an image cannot hold are written to the
+    *       new journal instead. If the file cannot be written the journal
+    *       is kept as it is.
+    * 
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void compactJournal () throws IOException
+   {
+      ArrayList<String> kept = new ArrayList<String> ();
+
+      if (imageFile)
+      {
+         // The image in use is mapped, so it is replaced at the next start
+         snapshot.getWordGraph ().write (dictionaryFileName + NEXT_SUFFIX);
+
+         for (String word : otherWords)
          {
-            next = prefix.substring (0, lastCharacter);
+            kept.add (WordJournal.ADDED + word);
          }
 
-         int charValue = prefix.charAt (lastCharacter);
-         next += String.valueOf ((char) (charValue + 1));
-         SortedSet<String> head = tail.headSet (next);
-         tail = head;
+         // Batches go on to the old journal until the new one is complete
+         WordJournal nextJournal = new WordJournal (dictionaryFileName
+               + JOURNAL_SUFFIX + NEXT_SUFFIX);
+
+         nextJournal.reset (kept);
+         journal = nextJournal;
       }
-      return tail;
-   } // wordsStartingWith
+      else
+      {
+         new TextIO ().replaceWordList (dictionaryFileName,
+               snapshot.prefixRange (""));
+         journal.reset (kept);
+      }
+   } // compactJournal
 
    /************************************************************************
-    * writeWordsToFile - This method writes the word list to a file. It will
-    *       choose about 300 words at random from the dictionary and write 
-    *       them to the file for use the next time the program is run.
+    * isListed - This method returns true if the word is in the dictionary,
+    *       counting the changes not yet published.
     * 
-    * @return none
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   private boolean isListed (String word)
+   {
+      return addedWords.contains (word) || otherWords.contains (word)
+            || (wordGraph.contains (word) && !removedWords.contains (word));
+   } // isListed
+
+   /************************************************************************
+    * mergeWords - This method merges the added and removed words into a
+    *       new graph once they are more than a small part of it, and
+    *       returns true if it did.
+    * 
+    * @return boolean
     * @param none
     ************************************************************************/
-   public void writeWordsToFile ()
+   private boolean mergeWords ()
    {
-      ArrayList<String> allWords = new ArrayList<String> ();
-      ArrayList<String> selectedWords = new ArrayList<String> ();
-      TextIO io = new TextIO ();
+      boolean merge = addedWords.size () + removedWords.size ()
+            > Math.max (MIN_MERGE_SIZE, wordGraph.size () / MERGE_FRACTION);
 
-      for (String word : wordList)
+      if (merge)
       {
-         allWords.add (word);
+         wordGraph = new WordGraph (changedGraph ());
+         addedWords.clear ();
+         removedWords.clear ();
       }
+      return merge;
+   } // mergeWords
 
-      // Randomly choose about 300 words at random from the word list and
-      // write them to the dictionary file for use the next time
-      int i = 0;
+   /************************************************************************
+    * nextGraph - This method returns the word graph for the next snapshot:
+    *       the published snapshot's graph with the words changed since it
+    *       was published added or removed, so only the paths to the words
+    *       of this batch are copied.
+    * 
+    * @return WordGraph
+    * @param none
+    ************************************************************************/
+   private WordGraph nextGraph ()
+   {
+      WordGraph published = snapshot.getWordGraph ();
+      TreeSet<String> added = new TreeSet<String> ();
+      TreeSet<String> removed = new TreeSet<String> ();
 
-      while (allWords.size () > 0 && i < 300)
+      for (String change : changes)
       {
-         int randomInt = randomNumber.nextInt (allWords.size ());
-         selectedWords.add (allWords.get (randomInt));
-         allWords.remove (randomInt);
-         i++;
+         String word = change.substring (1);
+
+         if (WordGraph.isLowerCase (word))
+         {
+            if (isListed (word) && !published.contains (word))
+            {
+               added.add (word);
+            }
+            else if (!isListed (word) && published.contains (word))
+            {
+               removed.add (word);
+            }
+         }
       }
+      return published.withChanges (added.toArray (new String[added.size ()]),
+            removed.toArray (new String[removed.size ()]));
+   } // nextGraph
 
-      io.writeWordList (dictionaryFileName, selectedWords);
-   } // writeWordsToFile
+   /************************************************************************
+    * readJournal - This method makes the words as they were when the
+    *       program last saved a batch, by reading the journal's changes
+    *       over the words of the file. If the journal cannot be read it is
+    *       not used, so it is left for the user.
+    * 
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void readJournal ()
+   {
+      WordJournal fileJournal = new WordJournal (dictionaryFileName
+            + JOURNAL_SUFFIX);
 
-   /*
-    * private methods*****************
-    */
+      try
+      {
+         for (String change : fileJournal.read ())
+         {
+            if (change.charAt (0) == WordJournal.ADDED)
+            {
+               addWord (change.substring (1));
+            }
+            else
+            {
+               removeWord (change.substring (1));
+            }
+         }
+         journal = fileJournal;
+      }
+      catch (IOException e)
+      {
+         System.err.println ("Cannot read " + dictionaryFileName
+               + JOURNAL_SUFFIX + ": " + e.getMessage ());
+      }
+      mergeWords ();
+      snapshot = snapshotOf (changedGraph (), 0);
+   } // readJournal
 
    /************************************************************************
     * readWordsFromFile - This method adds words to the dictionary from a file.
@@ -202,12 +659,131 @@ public class Dictionary
       TextIO io = new TextIO ();
       ArrayList<String> words = io.readWordList (dictionaryFileName);
 
+      Collections.sort (words);
+      wordGraph = new WordGraph (words);
+      fileWords = wordGraph;
+
       for (String word : words)
       {
-         wordList.add (word);
+         if (!WordGraph.isLowerCase (word))
+         {
+            otherWords.add (word);
+         }
       }
    } // readWordsFromFile
 
+   /************************************************************************
+    * readWordsFromImage - This method maps the words of a word graph image,
+    *       after putting in place an image compacted since it was last read.
+    *       If the image cannot be loaded the dictionary starts empty and is
+    *       not written back, so a damaged file is left for the user.
+    * 
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void readWordsFromImage ()
+   {
+      try
+      {
+         replaceWithNext (dictionaryFileName);
+         replaceWithNext (dictionaryFileName + JOURNAL_SUFFIX);
+         wordGraph = WordGraph.load (dictionaryFileName);
+         fileWords = wordGraph;
+         imageFile = true;
+      }
+      catch (IOException e)
+      {
+         System.err.println ("Cannot load " + dictionaryFileName + ": "
+               + e.getMessage ());
+         dictionaryFileName = null;
+      }
+   } // readWordsFromImage
+
+   /************************************************************************
+    * removeWord - This method removes a word from the working words, and
+    *       returns true if it was there.
+    * 
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   private boolean removeWord (String word)
+   {
+      return otherWords.remove (word) || addedWords.remove (word)
+            || (wordGraph.contains (word) && removedWords.add (word));
+   } // removeWord
+
+   /************************************************************************
+    * replaceWithNext - This method moves the named file's compacted
+    *       replacement over it, if there is one.
+    * 
+    * @return none
+    * @param String
+    ************************************************************************/
+   private void replaceWithNext (String fileName) throws IOException
+   {
+      Path nextFile = Paths.get (fileName + NEXT_SUFFIX);
+
+      if (Files.exists (nextFile))
+      {
+         Files.move (nextFile, Paths.get (fileName),
+               StandardCopyOption.REPLACE_EXISTING,
+               StandardCopyOption.ATOMIC_MOVE);
+      }
+   } // replaceWithNext
+
+   /************************************************************************
+    * saveChanges - This method adds the changes just published to the
+    *       journal as one batch, and writes all the words to the file once
+    *       the journal holds more than a small part of them.
+    * 
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void saveChanges ()
+   {
+      if (journal != null)
+      {
+         try
+         {
+            journal.append (changes);
+         }
+         catch (IOException e)
+         {
+            e.printStackTrace ();
+         }
+
+         if (compactable && journal.getChangeCount () > Math.max (
+               MIN_COMPACT_SIZE, snapshot.size () / COMPACT_FRACTION))
+         {
+            try
+            {
+               compactJournal ();
+            }
+            catch (IOException e)
+            {
+               // Trying again on every batch would only fail again
+               System.err.println ("Cannot compact " + dictionaryFileName
+                     + ": " + e.getMessage ());
+               compactable = false;
+            }
+         }
+      }
+   } // saveChanges
+
+   /************************************************************************
+    * snapshotOf - This method returns a snapshot of the words as they are
+    *       now, whose words from 'a' to 'z' are those of the given graph,
+    *       with the given version.
+    * 
+    * @return DictionarySnapshot
+    * @param WordGraph, long
+    ************************************************************************/
+   private DictionarySnapshot snapshotOf (WordGraph graph, long version)
+   {
+      return new DictionarySnapshot (graph,
+            otherWords.toArray (new String[otherWords.size ()]), version);
+   } // snapshotOf
+
    /************************************************************************
     * validWord - This method returns true if a given word is in the dictionary.
     * 
@@ -216,8 +792,26 @@ public class Dictionary
     ************************************************************************/
    public boolean validWord (String word)
    {
-      boolean valid = wordList.contains (word);
+      boolean valid = snapshot.validWord (word);
       return valid;
    } // validWord
 
+   /************************************************************************
+    * wordsChanged - This method keeps a word added or removed, as
+    *       WordJournal.ADDED or REMOVED followed by the word, and publishes
+    *       the changes once there are enough of them.
+    * 
+    * @return none
+    * @param String
+    ************************************************************************/
+   private void wordsChanged (String change)
+   {
+      changes.add (change);
+
+      if (changes.size () >= PUBLISH_SIZE)
+      {
+         publishChanges ();
+      }
+   } // wordsChanged
+
 } // Dictionary
\ No newline at end of file
@@ -0,0 +1,177 @@
+package model;
+
+import java.util.Arrays;
+
+import utilities.WordGraph;
+
+/***************************************************************************
+ * DictionarySnapshot - This class is the words of a dictionary as they
+ *       were at one version. It is made of a word graph of the words from
+ *       'a' to 'z' and a sorted array of the words with other characters,
+ *       neither of which is changed once the snapshot is made. Any number
+ *       of threads may read a snapshot without locking while the
+ *       dictionary goes on learning words, and everything read from one
+ *       snapshot agrees: its word graph, its ranges and its version.
+ *
+ *       The graph is the dictionary's merged graph with the words added and
+ *       removed since the merge applied by WordGraph.withChanges, so it
+ *       shares the merged graph's arrays and solvers walk it as it is.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class DictionarySnapshot
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final WordGraph graph;
+   private final String[] otherWords;     // sorted, not from a to z
+   private final long version;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * DictionarySnapshot - This method constructs a DictionarySnapshot of
+    *       the words in the graph and the sorted words with other
+    *       characters, at the given version. The array must not be changed
+    *       afterwards.
+    *
+    * @param WordGraph, String[], long
+    ************************************************************************/
+   DictionarySnapshot (WordGraph graph, String[] otherWords, long version)
+   {
+      this.graph = graph;
+      this.otherWords = otherWords;
+      this.version = version;
+   } // DictionarySnapshot
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * countWithPrefix - This method returns the number of words that start
+    *       with the given prefix.
+    *
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int countWithPrefix (String prefix)
+   {
+      return prefixRange (prefix).count ();
+   } // countWithPrefix
+
+   /************************************************************************
+    * getVersion - This method returns the version of the words. A newer
+    *       snapshot of the same dictionary has a higher version.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getVersion ()
+   {
+      return version;
+   } // getVersion
+
+   /************************************************************************
+    * getWordGraph - This method returns the word graph of the words from
+    *       'a' to 'z'.
+    *
+    * @return WordGraph
+    * @param none
+    ************************************************************************/
+   public WordGraph getWordGraph ()
+   {
+      return graph;
+   } // getWordGraph
+
+   /************************************************************************
+    * hasPrefix - This method returns true if some word starts with the
+    *       given prefix.
+    *
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public boolean hasPrefix (String prefix)
+   {
+      return !prefixRange (prefix).isEmpty ();
+   } // hasPrefix
+
+   /************************************************************************
+    * prefixRange - This method returns the words that start with the given
+    *       prefix as a range of the word graph.
+    *
+    * @return PrefixRange
+    * @param String
+    ************************************************************************/
+   public PrefixRange prefixRange (String prefix)
+   {
+      return new PrefixRange (graph, prefix,
+            startingWith (otherWords, prefix));
+   } // prefixRange
+
+   /************************************************************************
+    * size - This method returns the number of words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int size ()
+   {
+      return graph.size () + otherWords.length;
+   } // size
+
+   /************************************************************************
+    * validWord - This method returns true if the word is one of the words.
+    *
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public boolean validWord (String word)
+   {
+      return graph.contains (word)
+            || Arrays.binarySearch (otherWords, word) >= 0;
+   } // validWord
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * startingWith - This method returns the words of a sorted array that
+    *       start with the given prefix. They are next to each other, from
+    *       where the prefix would go.
+    *
+    * @return String[]
+    * @param String[], String
+    ************************************************************************/
+   private static String[] startingWith (String[] words, String prefix)
+   {
+      int first = Arrays.binarySearch (words, prefix);
+      int last;
+
+      first = (first < 0) ? -first - 1 : first;
+      last = first;
+
+      while (last < words.length && words[last].startsWith (prefix))
+      {
+         last++;
+      }
+      return (last - first == words.length) ? words
+            : Arrays.copyOfRange (words, first, last);
+   } // startingWith
+
+} // DictionarySnapshot
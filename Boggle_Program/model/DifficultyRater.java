@@ -0,0 +1,525 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+
+import utilities.WordGraph;
+
+/***************************************************************************
+ * DifficultyRater - This class rates how hard boards are, so that board
+ *       generation can keep only boards in a band of difficulty. A board
+ *       is counted, not solved, by the thread's BoardSolver, giving the
+ *       number of words, their score, the longest word and the letters
+ *       that start a word; the share of cells with a rare letter (j, k, q,
+ *       x or z) comes from the board itself. The difficulty runs from 0
+ *       (easy) to 100 (hard) and mostly follows the score, on a log scale
+ *       up to the score of an easy board. Bigger boards have many more
+ *       words, so the easy score is measured on random boards of each
+ *       size a board is rated at, and again once the dictionary changes.
+ *
+ *       Ratings are cached by canonical packed board, so a rotated or
+ *       mirrored board finds the same entry, and are dropped when the
+ *       dictionary changes, as in SolutionCache. Boards are rated in
+ *       batches: the cache is locked once to look up a batch and once to
+ *       store its new ratings, and the boards missing are counted outside
+ *       the lock. The rater is thread safe.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class DifficultyRater
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final int DEFAULT_MAX_ENTRIES = 100000;
+   public static final int BATCH_SIZE = 64;       // boards per filter batch
+
+   /*
+    * package static attributes***************************
+    */
+
+   static final int CALIBRATION_BOARDS = 200;
+   static final double EASY_PERCENTILE = 0.9;     // easy board's score
+   static final int LONG_WORD = 8;                // longest word that counts
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final String RARE_LETTERS = "jkqxz";
+   private static final double SCORE_WEIGHT = 0.6;
+   private static final double START_WEIGHT = 0.2;
+   private static final double LENGTH_WEIGHT = 0.1;
+   private static final double RARE_WEIGHT = 0.1;
+
+   /*
+    * attributes*************
+    */
+
+   private final Dictionary dictionary;
+   private final int maxEntries;
+
+   private final LinkedHashMap<PackedBoard, BoardRating> entries =
+         new LinkedHashMap<PackedBoard, BoardRating> (16, 0.75f, true);
+   private long entriesVersion = 0;   // dictionary version of the entries
+   private final HashMap<Integer, Integer> easyScores =
+         new HashMap<Integer, Integer> ();   // by board size
+   private long easyScoreVersion = -1;
+
+   private long hits = 0;
+   private long misses = 0;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * DifficultyRater - This method constructs a rater for the dictionary
+    *       caching up to DEFAULT_MAX_ENTRIES ratings.
+    *
+    * @param Dictionary
+    ************************************************************************/
+   public DifficultyRater (Dictionary dictionary)
+   {
+      this (dictionary, DEFAULT_MAX_ENTRIES);
+   } // DifficultyRater
+
+   /************************************************************************
+    * DifficultyRater - This method constructs a rater for the dictionary
+    *       caching up to the given number of ratings.
+    *
+    * @param Dictionary, int
+    ************************************************************************/
+   public DifficultyRater (Dictionary dictionary, int maxEntries)
+   {
+      this.dictionary = dictionary;
+      this.maxEntries = Math.max (maxEntries, 1);
+      entriesVersion = dictionary.getVersion ();
+   } // DifficultyRater
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * filter - This method returns the boards from the given iterator whose
+    *       difficulty is from min to max, inclusive, rating them BATCH_SIZE
+    *       at a time. The iterator ends when the boards do; with an endless
+    *       generator it never ends.
+    *
+    * @return Iterator<Board>
+    * @param Iterator<Board>, int, int
+    ************************************************************************/
+   public Iterator<Board> filter (Iterator<Board> boards, int min, int max)
+   {
+      return new BandIterator (boards, min, max);
+   } // filter
+
+   /************************************************************************
+    * getEasyScore - This method returns the score of an easy 4x4 board for
+    *       the dictionary's current words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getEasyScore ()
+   {
+      return getEasyScore (Board.DEFAULT_SIZE, Board.DEFAULT_SIZE);
+   } // getEasyScore
+
+   /************************************************************************
+    * getEasyScore - This method returns the score of an easy board of the
+    *       given size for the dictionary's current words: the score that
+    *       90% of random boards of that size do not beat.
+    *
+    * @return int
+    * @param int, int
+    ************************************************************************/
+   public int getEasyScore (int rows, int columns)
+   {
+      DictionarySnapshot words = dictionary.getSnapshot ();
+      return easyScoreFor (words.getWordGraph (), words.getVersion (), rows,
+            columns);
+   } // getEasyScore
+
+   /************************************************************************
+    * getHits - This method returns the number of boards whose rating was
+    *       found in the cache.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public synchronized long getHits ()
+   {
+      return hits;
+   } // getHits
+
+   /************************************************************************
+    * getMisses - This method returns the number of boards that had to be
+    *       counted.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public synchronized long getMisses ()
+   {
+      return misses;
+   } // getMisses
+
+   /************************************************************************
+    * rate - This method returns the rating of the board.
+    *
+    * @return BoardRating
+    * @param Board
+    ************************************************************************/
+   public BoardRating rate (Board board)
+   {
+      return rate (new Board[] { board })[0];
+   } // rate
+
+   /************************************************************************
+    * rate - This method returns the ratings of the boards, in the same
+    *       order. Each board is rated against the easy score of its size.
+    *
+    * @return BoardRating[]
+    * @param Board[]
+    ************************************************************************/
+   public BoardRating[] rate (Board[] boards)
+   {
+      PackedBoard[] keys = new PackedBoard[boards.length];
+
+      for (int i = 0; i < boards.length; i++)
+      {
+         keys[i] = PackedBoard.of (boards[i]).canonical ();
+      }
+
+      DictionarySnapshot words = dictionary.getSnapshot ();
+      long version = words.getVersion ();
+      WordGraph graph = words.getWordGraph ();
+      BoardRating[] ratings = lookup (keys, version);
+      BoardSolver solver = BoardSolver.forThread (graph);
+      WordStats stats = new WordStats ();
+      boolean counted = false;
+      int rows = 0;       // size the scale is for
+      int columns = 0;
+      int scale = 1;
+
+      for (int i = 0; i < boards.length; i++)
+      {
+         if (ratings[i] == null)
+         {
+            if (boards[i].getRows () != rows
+                  || boards[i].getColumns () != columns)
+            {
+               rows = boards[i].getRows ();
+               columns = boards[i].getColumns ();
+               scale = easyScoreFor (graph, version, rows, columns);
+            }
+            ratings[i] = rate (boards[i], solver.count (boards[i], stats),
+                  scale);
+            counted = true;
+         }
+      }
+
+      if (counted)
+      {
+         store (keys, ratings, version);
+      }
+      return ratings;
+   } // rate
+
+   /************************************************************************
+    * size - This method returns the number of ratings in the cache.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public synchronized int size ()
+   {
+      return entries.size ();
+   } // size
+
+   /************************************************************************
+    * toString - This method provides a string representation of the cache
+    *       counters.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public synchronized String toString ()
+   {
+      return "DifficultyRater: " + entries.size () + " entries, " + hits
+            + " hits, " + misses + " misses, easy scores for "
+            + easyScores.size () + " board sizes";
+   } // toString
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * easyScoreFor - This method returns the score of an easy board of the
+    *       given size for the given words, measuring it on random boards of
+    *       that size the first time it is asked for with the version. The
+    *       scores are dropped when the version changes, as the entries are.
+    *       Two threads may both measure it; they get the same score.
+    *
+    * @return int
+    * @param WordGraph, long, int, int
+    ************************************************************************/
+   private int easyScoreFor (WordGraph graph, long version, int rows,
+         int columns)
+   {
+      Integer size = rows * (Board.MAX_CELLS + 1) + columns;
+      Integer score;
+
+      synchronized (this)
+      {
+         if (version > easyScoreVersion)
+         {
+            easyScores.clear ();
+            easyScoreVersion = version;
+         }
+         score = (version == easyScoreVersion) ? easyScores.get (size)
+               : null;
+      }
+
+      if (score == null)
+      {
+         BoardSolver solver = BoardSolver.forThread (graph);
+         Iterator<Board> generator = new BoardGenerator (0, rows, columns);
+         WordStats stats = new WordStats ();
+         int[] scores = new int[CALIBRATION_BOARDS];
+
+         for (int i = 0; i < scores.length; i++)
+         {
+            scores[i] = solver.count (generator.next (), stats).getScore ();
+         }
+         Arrays.sort (scores);
+         score = Math.max (scores[(int) (EASY_PERCENTILE
+               * (scores.length - 1))], 1);
+
+         synchronized (this)
+         {
+            if (version == easyScoreVersion)
+            {
+               easyScores.put (size, score);
+            }
+         }
+      }
+      return score;
+   } // easyScoreFor
+
+   /************************************************************************
+    * lookup - This method returns the cached ratings of the keys, with
+    *       null for those not in the cache. The entries are dropped if they
+    *       belong to an older version, and are not used for an older
+    *       version than theirs.
+    *
+    * @return BoardRating[]
+    * @param PackedBoard[], long
+    ************************************************************************/
+   private synchronized BoardRating[] lookup (PackedBoard[] keys,
+         long version)
+   {
+      BoardRating[] ratings = new BoardRating[keys.length];
+
+      if (version > entriesVersion)
+      {
+         entries.clear ();
+         entriesVersion = version;
+      }
+
+      for (int i = 0; i < keys.length; i++)
+      {
+         ratings[i] = (version == entriesVersion) ? entries.get (keys[i])
+               : null;
+
+         if (ratings[i] != null)
+         {
+            hits++;
+         }
+         else
+         {
+            misses++;
+         }
+      }
+      return ratings;
+   } // lookup
+
+   /************************************************************************
+    * rate - This method works out the rating of a board from its word
+    *       statistics. Each feature gives an ease from 0 to 1: the score on
+    *       a log scale up to the easy score, the share of the board's
+    *       letters that start a word, the longest word up to LONG_WORD
+    *       letters, and the share of cells without a rare letter. The
+    *       difficulty is 100 less the weighted ease as a percentage.
+    *
+    * @return BoardRating
+    * @param Board, WordStats, int
+    ************************************************************************/
+   private static BoardRating rate (Board board, WordStats stats,
+         int easyScore)
+   {
+      char[] cells = board.getCells ();
+      byte[] letterCounts = board.getLetterCounts ();
+      int rareCells = 0;
+      int letters = 0;
+
+      for (int letter = 0; letter < letterCounts.length; letter++)
+      {
+         if (letterCounts[letter] > 0)
+         {
+            letters++;
+
+            if (RARE_LETTERS.indexOf ('a' + letter) >= 0)
+            {
+               rareCells += letterCounts[letter];
+            }
+         }
+      }
+
+      double rareShare = (double) rareCells / cells.length;
+      double scoreEase = Math.min (1.0, Math.log1p (stats.getScore ())
+            / Math.log1p (easyScore));
+      double startEase = (letters == 0) ? 0.0
+            : (double) stats.getStartLetterCount () / letters;
+      double lengthEase = (double) Math.min (stats.getMaxLength (),
+            LONG_WORD) / LONG_WORD;
+      double ease = SCORE_WEIGHT * scoreEase + START_WEIGHT * startEase
+            + LENGTH_WEIGHT * lengthEase + RARE_WEIGHT * (1.0 - rareShare);
+
+      return new BoardRating (stats.getWordCount (), stats.getScore (),
+            stats.getMaxLength (), rareShare, stats.getStartLetterCount (),
+            (int) Math.round (100.0 * (1.0 - ease)));
+   } // rate
+
+   /************************************************************************
+    * store - This method adds ratings to the cache and evicts the least
+    *       recently used entries until the cache is within its bound.
+    *
+    * @return none
+    * @param PackedBoard[], BoardRating[], long
+    ************************************************************************/
+   private synchronized void store (PackedBoard[] keys,
+         BoardRating[] ratings, long version)
+   {
+      if (version == entriesVersion)
+      {
+         for (int i = 0; i < keys.length; i++)
+         {
+            entries.put (keys[i], ratings[i]);
+         }
+
+         Iterator<PackedBoard> eldest = entries.keySet ().iterator ();
+
+         while (entries.size () > maxEntries)
+         {
+            eldest.next ();
+            eldest.remove ();
+         }
+      }
+   } // store
+
+   /*
+    * private classes*****************
+    */
+
+   /************************************************************************
+    * BandIterator - This class iterates over the boards of another
+    *       iterator that are in a band of difficulty, rating them in
+    *       batches.
+    ************************************************************************/
+   private class BandIterator implements Iterator<Board>
+   {
+      private final Iterator<Board> boards;
+      private final int min;
+      private final int max;
+      private final Board[] batch = new Board[BATCH_SIZE];
+      private Board[] kept = new Board[0];
+      private int next = 0;
+
+      /*********************************************************************
+       * BandIterator - This method constructs an iterator over the boards
+       *       from min to max difficulty.
+       *
+       * @param Iterator<Board>, int, int
+       *********************************************************************/
+      public BandIterator (Iterator<Board> boards, int min, int max)
+      {
+         this.boards = boards;
+         this.min = min;
+         this.max = max;
+      } // BandIterator
+
+      /*********************************************************************
+       * hasNext - This method returns true if there is another board in the
+       *       band, rating batches of boards until one is found or the
+       *       boards run out.
+       *
+       * @return boolean
+       * @param none
+       *********************************************************************/
+      public boolean hasNext ()
+      {
+         while (next == kept.length && boards.hasNext ())
+         {
+            int count = 0;
+
+            while (count < batch.length && boards.hasNext ())
+            {
+               batch[count] = boards.next ();
+               count++;
+            }
+
+            Board[] rated = Arrays.copyOf (batch, count);
+            BoardRating[] ratings = rate (rated);
+            int keptCount = 0;
+
+            for (int i = 0; i < count; i++)
+            {
+               if (ratings[i].isInBand (min, max))
+               {
+                  rated[keptCount] = rated[i];
+                  keptCount++;
+               }
+            }
+            kept = Arrays.copyOf (rated, keptCount);
+            next = 0;
+         }
+         return next < kept.length;
+      } // hasNext
+
+      /*********************************************************************
+       * next - This method returns the next board in the band.
+       *
+       * @return Board
+       * @param none
+       *********************************************************************/
+      public Board next ()
+      {
+         if (!hasNext ())
+         {
+            throw new NoSuchElementException ();
+         }
+         next++;
+         return kept[next - 1];
+      } // next
+
+   } // BandIterator
+
+} // DifficultyRater
@@ -2,6 +2,7 @@ package model;
 
 import java.awt.Toolkit;
 import java.util.ArrayList;
+import java.util.BitSet;
 
 import model.Board;
 import model.Dictionary;
@@ -22,7 +23,10 @@ import utilities.TextIO;
  * 
  *          None
  *          
- * Modifications: 12/04/2012: Updated to support graphical user interface.
+ * Modifications: 10/18/2026: Only words on the board are given dictionary
+ *                            word ordinals; the invalid words of a round
+ *                            stay strings.
+ *                12/04/2012: Updated to support graphical user interface.
  * 
  ***************************************************************************/
 
@@ -69,7 +73,7 @@ public class HumanPlayer extends Player
             
             if (board.isWordOnBoard (enteredWord))
             {
-               roundWords.addWord (enteredWord);
+               roundWords.set (dictionary.ordinalOf (enteredWord));
                dictionary.addWordToDictionary (enteredWord);
             }
             else
@@ -83,7 +87,7 @@ public class HumanPlayer extends Player
 
    /************************************************************************
     * getInvalidWords - This method returns the player's entered words that
-    *       are not on the board.
+    *       are not on the board this round.
     * 
     * @param StringSet
     ************************************************************************/
@@ -107,7 +111,7 @@ public class HumanPlayer extends Player
       
       this.board = board;
       invalidWords = new StringSet ();
-      rejectedWords = new StringSet ();
-      roundWords = new StringSet ();
+      rejectedWords = new BitSet ();
+      roundWords = new BitSet ();
    } // newRound
 } // HumanPlayer
\ No newline at end of file
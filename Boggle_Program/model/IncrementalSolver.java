@@ -0,0 +1,553 @@
+package model;
+
+import java.util.Arrays;
+
+import utilities.WordGraph;
+import utilities.StringSet;
+
+/***************************************************************************
+ * IncrementalSolver - This class keeps the words on a board up to date as
+ *       single cells are changed, for board optimizers and editors. It
+ *       keeps every path on the board whose letters are a prefix in the
+ *       dictionary's word graph, as its last cell, its graph node, the
+ *       number of words before its prefix and a mask of the cells it uses,
+ *       and counts the paths that spell each word. When a cell changes,
+ *       the paths through it are dropped without any search. The paths
+ *       through the cell with its new letter either start at the cell or
+ *       continue a kept path that ends next to it, so only those are
+ *       searched. A word is on the board while its count is above 0, so
+ *       the words whose counts cross 0 are the words added and removed.
+ *
+ *       A solver must only be used by one thread at a time.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class IncrementalSolver
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final WordGraph graph;
+   private final int rows;
+   private final int columns;
+   private final char[] cells;
+   private final int[][] neighbors;
+   private final long[] neighborMasks;   // neighbors of each cell as bits
+
+   // Every path on the board whose letters are a prefix in the graph
+   private int[] pathCells = new int[256];     // last cell of each path
+   private int[] pathNodes = new int[256];     // node reached by each path
+   private int[] pathPrefixes = new int[256];  // words before each prefix
+   private long[] pathVisited = new long[256]; // cells used by each path
+   private int pathCount = 0;
+
+   private final int[] pathCounts;   // paths spelling each word
+   private final int[] positions;    // index of each word in present
+   private int[] present = new int[64];   // ordinals of the words on the board
+   private int presentCount = 0;
+   private int score = 0;
+
+   // Words whose counts changed during the current change
+   private final int[] marks;
+   private int stamp = 0;
+   private int[] touched = new int[64];
+   private int[] touchedLengths = new int[64];
+   private boolean[] wasPresent = new boolean[64];
+   private int touchedCount = 0;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * IncrementalSolver - This method constructs an IncrementalSolver for
+    *       the board using the words currently in the dictionary, and finds
+    *       the words on the board.
+    *
+    * @param Dictionary, Board
+    ************************************************************************/
+   public IncrementalSolver (Dictionary dictionary, Board board)
+   {
+      this (dictionary.getWordGraph (), board);
+   } // IncrementalSolver
+
+   /************************************************************************
+    * IncrementalSolver - This method constructs an IncrementalSolver for
+    *       the board using the words in the word graph, and finds the
+    *       words on the board.
+    *
+    * @param WordGraph, Board
+    ************************************************************************/
+   public IncrementalSolver (WordGraph graph, Board board)
+   {
+      this.graph = graph;
+      rows = board.getRows ();
+      columns = board.getColumns ();
+      cells = board.getCells ().clone ();
+      neighbors = board.getNeighbors ();
+      neighborMasks = new long[cells.length];
+      pathCounts = new int[graph.size ()];
+      positions = new int[graph.size ()];
+      marks = new int[graph.size ()];
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         for (int neighbor : neighbors[cell])
+         {
+            neighborMasks[cell] |= 1L << neighbor;
+         }
+      }
+
+      beginChange ();
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         int node = graph.child (graph.root (), cells[cell]);
+
+         if (node != WordGraph.NO_NODE)
+         {
+            walk (cell, node, graph.wordsBefore (graph.root (),
+                  cells[cell] - 'a'), 1L << cell);
+         }
+      }
+      finishChange ();
+   } // IncrementalSolver
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getBoard - This method returns a Board with the current letters.
+    *
+    * @return Board
+    * @param none
+    ************************************************************************/
+   public Board getBoard ()
+   {
+      return new Board (rows, columns, cells.clone ());
+   } // getBoard
+
+   /************************************************************************
+    * getLetter - This method returns the current letter of a cell.
+    *
+    * @return char
+    * @param int, int
+    ************************************************************************/
+   public char getLetter (int row, int column)
+   {
+      return cells[cellOf (row, column)];
+   } // getLetter
+
+   /************************************************************************
+    * getResult - This method returns the words now on the board and their
+    *       total score.
+    *
+    * @return SolveResult
+    * @param none
+    ************************************************************************/
+   public SolveResult getResult ()
+   {
+      int[] ordinals = Arrays.copyOf (present, presentCount);
+
+      Arrays.sort (ordinals);
+      return new SolveResult (ordinals, score);
+   } // getResult
+
+   /************************************************************************
+    * getScore - This method returns the total score of the words now on
+    *       the board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getScore ()
+   {
+      return score;
+   } // getScore
+
+   /************************************************************************
+    * getWordCount - This method returns the number of words now on the
+    *       board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getWordCount ()
+   {
+      return presentCount;
+   } // getWordCount
+
+   /************************************************************************
+    * getWords - This method returns the words now on the board.
+    *
+    * @return StringSet
+    * @param none
+    ************************************************************************/
+   public StringSet getWords ()
+   {
+      return getResult ().toStringSet (graph);
+   } // getWords
+
+   /************************************************************************
+    * setLetter - This method changes the letter of a cell and returns the
+    *       words added and removed by the change.
+    *
+    * @return WordDelta
+    * @param int, int, char
+    ************************************************************************/
+   public WordDelta setLetter (int row, int column, char letter)
+   {
+      return setCell (cellOf (row, column), letter);
+   } // setLetter
+
+   /************************************************************************
+    * toString - This method provides a string representation of the
+    *       current board and its score.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      return getBoard () + "" + presentCount + " words, score " + score;
+   } // toString
+
+   /*
+    * package methods*****************
+    */
+
+   /************************************************************************
+    * getCell - This method returns the current letter of a cell, numbered
+    *       in row order.
+    *
+    * @return char
+    * @param int
+    ************************************************************************/
+   char getCell (int cell)
+   {
+      return cells[cell];
+   } // getCell
+
+   /************************************************************************
+    * setCell - This method changes the letter of a cell, numbered in row
+    *       order, and returns the words added and removed by the change.
+    *
+    * @return WordDelta
+    * @param int, char
+    ************************************************************************/
+   WordDelta setCell (int cell, char letter)
+   {
+      beginChange ();
+
+      if (cells[cell] != letter)
+      {
+         removePaths (cell);
+         cells[cell] = letter;
+         extendPaths (cell);
+      }
+      return finishChange ();
+   } // setCell
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * beginChange - This method starts a new list of the words whose counts
+    *       change. Rather than clearing the marks, each change uses a new
+    *       stamp.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void beginChange ()
+   {
+      touchedCount = 0;
+      stamp++;
+
+      if (stamp == 0)
+      {
+         Arrays.fill (marks, 0);
+         stamp = 1;
+      }
+   } // beginChange
+
+   /************************************************************************
+    * cellOf - This method returns the cell number of a row and column.
+    *
+    * @return int
+    * @param int, int
+    ************************************************************************/
+   private int cellOf (int row, int column)
+   {
+      if (row < 0 || column < 0 || row >= rows || column >= columns)
+      {
+         throw new IllegalArgumentException ("No cell at " + row + ", "
+               + column + " on a " + rows + "x" + columns + " board");
+      }
+      return row * columns + column;
+   } // cellOf
+
+   /************************************************************************
+    * addPath - This method adds a path ending at the given cell, node and
+    *       prefix ordinal, counting it if it spells a word.
+    *
+    * @return none
+    * @param int, int, int, long
+    ************************************************************************/
+   private void addPath (int cell, int node, int prefix, long visited)
+   {
+      if (pathCount == pathNodes.length)
+      {
+         pathCells = Arrays.copyOf (pathCells, pathCount * 2);
+         pathNodes = Arrays.copyOf (pathNodes, pathCount * 2);
+         pathPrefixes = Arrays.copyOf (pathPrefixes, pathCount * 2);
+         pathVisited = Arrays.copyOf (pathVisited, pathCount * 2);
+      }
+      pathCells[pathCount] = cell;
+      pathNodes[pathCount] = node;
+      pathPrefixes[pathCount] = prefix;
+      pathVisited[pathCount] = visited;
+      pathCount++;
+
+      if (isWordPath (node, visited))
+      {
+         countWord (prefix, Long.bitCount (visited), 1);
+      }
+   } // addPath
+
+   /************************************************************************
+    * extendPaths - This method adds every path through the given cell. A
+    *       new path either starts at the cell or continues a kept path
+    *       that ends next to it, since the paths that do not use the cell
+    *       are the same as before.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   private void extendPaths (int cell)
+   {
+      long bit = 1L << cell;
+      int letter = cells[cell] - 'a';
+      int keptCount = pathCount;
+      int node = graph.child (graph.root (), cells[cell]);
+
+      if (node != WordGraph.NO_NODE)
+      {
+         walk (cell, node, graph.wordsBefore (graph.root (), letter), bit);
+      }
+
+      for (int i = 0; i < keptCount; i++)
+      {
+         if ((neighborMasks[cell] & (1L << pathCells[i])) != 0)
+         {
+            node = graph.child (pathNodes[i], cells[cell]);
+
+            if (node != WordGraph.NO_NODE)
+            {
+               walk (cell, node, pathPrefixes[i] + graph.wordsBefore (
+                     pathNodes[i], letter), pathVisited[i] | bit);
+            }
+         }
+      }
+   } // extendPaths
+
+   /************************************************************************
+    * isWordPath - This method returns true if a path ending at the node
+    *       spells a word that counts.
+    *
+    * @return boolean
+    * @param int, long
+    ************************************************************************/
+   private boolean isWordPath (int node, long visited)
+   {
+      return graph.isWord (node)
+            && Long.bitCount (visited) >= Scoring.MIN_WORD_LENGTH;
+   } // isWordPath
+
+   /************************************************************************
+    * removePaths - This method removes every path through the given cell,
+    *       moving the last path into the place of each one removed.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   private void removePaths (int cell)
+   {
+      long bit = 1L << cell;
+      int i = 0;
+
+      while (i < pathCount)
+      {
+         if ((pathVisited[i] & bit) != 0)
+         {
+            if (isWordPath (pathNodes[i], pathVisited[i]))
+            {
+               countWord (pathPrefixes[i], Long.bitCount (pathVisited[i]),
+                     -1);
+            }
+            pathCount--;
+            pathCells[i] = pathCells[pathCount];
+            pathNodes[i] = pathNodes[pathCount];
+            pathPrefixes[i] = pathPrefixes[pathCount];
+            pathVisited[i] = pathVisited[pathCount];
+         }
+         else
+         {
+            i++;
+         }
+      }
+   } // removePaths
+
+   /************************************************************************
+    * walk - This method adds the path ending at the given cell, node and
+    *       prefix ordinal, then recursively follows the board from the cell
+    *       while the letters on the path are a prefix in the graph. The
+    *       cells already on the path are the set bits of visited.
+    *
+    * @return none
+    * @param int, int, int, long
+    ************************************************************************/
+   private void walk (int cell, int node, int prefix, long visited)
+   {
+      addPath (cell, node, prefix, visited);
+
+      int[] adjacent = neighbors[cell];
+
+      for (int k = 0; k < adjacent.length; k++)
+      {
+         int neighbor = adjacent[k];
+
+         if ((visited & (1L << neighbor)) == 0)
+         {
+            int child = graph.child (node, cells[neighbor]);
+
+            if (child != WordGraph.NO_NODE)
+            {
+               walk (neighbor, child, prefix + graph.wordsBefore (node,
+                     cells[neighbor] - 'a'), visited | (1L << neighbor));
+            }
+         }
+      }
+   } // walk
+
+   /************************************************************************
+    * countWord - This method adds change to the path count of a word of
+    *       the given length, noting whether the word was on the board the
+    *       first time its count changes.
+    *
+    * @return none
+    * @param int, int, int
+    ************************************************************************/
+   private void countWord (int ordinal, int length, int change)
+   {
+      if (marks[ordinal] != stamp)
+      {
+         marks[ordinal] = stamp;
+
+         if (touchedCount == touched.length)
+         {
+            touched = Arrays.copyOf (touched, touchedCount * 2);
+            touchedLengths = Arrays.copyOf (touchedLengths, touchedCount * 2);
+            wasPresent = Arrays.copyOf (wasPresent, touchedCount * 2);
+         }
+         touched[touchedCount] = ordinal;
+         touchedLengths[touchedCount] = length;
+         wasPresent[touchedCount] = pathCounts[ordinal] > 0;
+         touchedCount++;
+      }
+      pathCounts[ordinal] += change;
+   } // countWord
+
+   /************************************************************************
+    * finishChange - This method updates the words on the board from the
+    *       words whose counts changed and returns the words added and
+    *       removed.
+    *
+    * @return WordDelta
+    * @param none
+    ************************************************************************/
+   private WordDelta finishChange ()
+   {
+      int[] added = new int[touchedCount];
+      int[] removed = new int[touchedCount];
+      int addedCount = 0;
+      int removedCount = 0;
+      int scoreChange = 0;
+
+      for (int i = 0; i < touchedCount; i++)
+      {
+         int ordinal = touched[i];
+         boolean isPresent = pathCounts[ordinal] > 0;
+
+         if (isPresent && !wasPresent[i])
+         {
+            addPresent (ordinal);
+            added[addedCount] = ordinal;
+            addedCount++;
+            scoreChange += Scoring.wordScore (touchedLengths[i]);
+         }
+         else if (!isPresent && wasPresent[i])
+         {
+            removePresent (ordinal);
+            removed[removedCount] = ordinal;
+            removedCount++;
+            scoreChange -= Scoring.wordScore (touchedLengths[i]);
+         }
+      }
+      score += scoreChange;
+
+      added = Arrays.copyOf (added, addedCount);
+      removed = Arrays.copyOf (removed, removedCount);
+      Arrays.sort (added);
+      Arrays.sort (removed);
+      return new WordDelta (added, removed, scoreChange);
+   } // finishChange
+
+   /************************************************************************
+    * addPresent - This method adds a word to the list of words on the
+    *       board.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   private void addPresent (int ordinal)
+   {
+      if (presentCount == present.length)
+      {
+         present = Arrays.copyOf (present, presentCount * 2);
+      }
+      present[presentCount] = ordinal;
+      positions[ordinal] = presentCount;
+      presentCount++;
+   } // addPresent
+
+   /************************************************************************
+    * removePresent - This method removes a word from the list of words on
+    *       the board by moving the last word into its place.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   private void removePresent (int ordinal)
+   {
+      int last = present[presentCount - 1];
+
+      present[positions[ordinal]] = last;
+      positions[last] = positions[ordinal];
+      presentCount--;
+   } // removePresent
+
+} // IncrementalSolver
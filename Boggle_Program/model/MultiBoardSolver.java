@@ -0,0 +1,444 @@
+package model;
+
+import java.util.Arrays;
+
+import utilities.WordGraph;
+
+/***************************************************************************
+ * MultiBoardSolver - This class finds the dictionary words on up to 64
+ *       boards at once with a single walk of the dictionary's word graph,
+ *       for batch jobs where every board would otherwise walk the same
+ *       prefixes separately. Each prefix is visited once for the whole
+ *       group, carrying the paths that spell it on every board together
+ *       with a 64-bit mask of the boards that still have at least one such
+ *       path. A branch is dropped as soon as that mask is empty, and a
+ *       word is recorded for every board in the mask of the prefix it ends
+ *       at, so each word is found once per board without marks. As in
+ *       BoardSolver, the walk keeps the number of words before each prefix,
+ *       which is the ordinal of the word ending there.
+ *
+ *       Only the child letters that are next to the end of some path are
+ *       tried, and a path is extended to a letter with one mask operation:
+ *       the neighbors of its last cell, less the cells already on it, that
+ *       hold the letter. The results are the same SolveResults that
+ *       BoardSolver gives. A solver keeps its scratch space between groups
+ *       and must only be used by one thread at a time.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class MultiBoardSolver
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final int MAX_BOARDS = 64;   // one bit per board in a long
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int ALPHABET_SIZE = 26;
+   private static final int START = Board.MAX_CELLS;   // before the first cell
+   private static final int SLOTS = Board.MAX_CELLS + 1;  // per board
+
+   /*
+    * attributes*************
+    */
+
+   private final WordGraph graph;
+
+   // Per board: the cells next to each cell and to START, and their letters
+   private final long[] neighborMasks = new long[MAX_BOARDS * SLOTS];
+   private final int[] neighborLetters = new int[MAX_BOARDS * SLOTS];
+   private final long[] letterCells = new long[MAX_BOARDS * ALPHABET_SIZE];
+
+   // Paths spelling the prefix at each depth of the walk, grouped by board:
+   // each board's paths, and the boards with each letter next to a path end
+   private byte[][] pathEnds = new byte[0][];
+   private long[][] pathVisited = new long[0][];
+   private int[] pathCounts = new int[0];
+   private int[][] firstPaths = new int[0][];
+   private int[][] lastPaths = new int[0][];
+   private long[][] letterBoards = new long[0][];
+   private int[] levelLetters = new int[0];   // letters with boards set
+
+   // Words found on each board of the current group
+   private final int[][] found = new int[MAX_BOARDS][];
+   private final int[] foundCounts = new int[MAX_BOARDS];
+   private final int[] foundScores = new int[MAX_BOARDS];
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * MultiBoardSolver - This method constructs a MultiBoardSolver for the
+    *       words in the given word graph.
+    *
+    * @param WordGraph
+    ************************************************************************/
+   public MultiBoardSolver (WordGraph graph)
+   {
+      this.graph = graph;
+
+      for (int board = 0; board < MAX_BOARDS; board++)
+      {
+         found[board] = new int[64];
+      }
+   } // MultiBoardSolver
+
+   /************************************************************************
+    * MultiBoardSolver - This method constructs a MultiBoardSolver for the
+    *       words currently in the given dictionary.
+    *
+    * @param Dictionary
+    ************************************************************************/
+   public MultiBoardSolver (Dictionary dictionary)
+   {
+      this (dictionary.getWordGraph ());
+   } // MultiBoardSolver
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getWordGraph - This method returns the word graph the solver uses.
+    *
+    * @return WordGraph
+    * @param none
+    ************************************************************************/
+   public WordGraph getWordGraph ()
+   {
+      return graph;
+   } // getWordGraph
+
+   /************************************************************************
+    * solve - This method finds all the words of 3 or more letters on each
+    *       of the given boards, which may be of different sizes, and
+    *       returns their results in the same order. At most MAX_BOARDS
+    *       boards can be solved at once.
+    *
+    * @return SolveResult[]
+    * @param Board[]
+    ************************************************************************/
+   public SolveResult[] solve (Board[] boards)
+   {
+      return solve (boards, 0, boards.length);
+   } // solve
+
+   /************************************************************************
+    * solve - This method finds all the words of 3 or more letters on the
+    *       count boards starting at the given offset in the array, and
+    *       returns their results in the same order. At most MAX_BOARDS
+    *       boards can be solved at once.
+    *
+    * @return SolveResult[]
+    * @param Board[], int, int
+    ************************************************************************/
+   public SolveResult[] solve (Board[] boards, int offset, int count)
+   {
+      if (count < 0 || count > MAX_BOARDS)
+      {
+         throw new IllegalArgumentException ("Between 0 and " + MAX_BOARDS
+               + " boards can be solved at once: " + count);
+      }
+
+      SolveResult[] results = new SolveResult[count];
+
+      ensureLevel (0);
+      pathCounts[0] = count;
+      Arrays.fill (letterBoards[0], 0);
+      levelLetters[0] = 0;
+
+      for (int board = 0; board < count; board++)
+      {
+         addBoard (board, boards[offset + board]);
+         levelLetters[0] |= neighborLetters[board * SLOTS + START];
+      }
+
+      if (count > 0)
+      {
+         followPrefix (graph.root (), 0, 0, levelLetters[0],
+               (count == MAX_BOARDS) ? -1L : (1L << count) - 1);
+      }
+
+      for (int board = 0; board < count; board++)
+      {
+         results[board] = new SolveResult (Arrays.copyOf (found[board],
+               foundCounts[board]), foundScores[board]);
+      }
+      return results;
+   } // solve
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * addBoard - This method loads a board's letters and neighbors into the
+    *       given slot and gives it one empty path before its first cell.
+    *       Cells without a letter are left out of every mask, so no path
+    *       steps on them.
+    *
+    * @return none
+    * @param int, Board
+    ************************************************************************/
+   private void addBoard (int board, Board solving)
+   {
+      char[] cells = solving.getCells ();
+      int[][] neighbors = solving.getNeighbors ();
+      int base = board * SLOTS;
+      long allCells = 0;
+      int allLetters = 0;
+
+      foundCounts[board] = 0;
+      foundScores[board] = 0;
+      Arrays.fill (letterCells, board * ALPHABET_SIZE,
+            (board + 1) * ALPHABET_SIZE, 0);
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         int letter = cells[cell] - 'a';
+
+         if (letter >= 0 && letter < ALPHABET_SIZE)
+         {
+            letterCells[board * ALPHABET_SIZE + letter] |= 1L << cell;
+            allCells |= 1L << cell;
+            allLetters |= 1 << letter;
+         }
+      }
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         long mask = 0;
+         int letters = 0;
+
+         for (int neighbor : neighbors[cell])
+         {
+            int letter = cells[neighbor] - 'a';
+
+            if (letter >= 0 && letter < ALPHABET_SIZE)
+            {
+               mask |= 1L << neighbor;
+               letters |= 1 << letter;
+            }
+         }
+         neighborMasks[base + cell] = mask;
+         neighborLetters[base + cell] = letters;
+      }
+      neighborMasks[base + START] = allCells;
+      neighborLetters[base + START] = allLetters;
+
+      pathEnds[0][board] = START;
+      pathVisited[0][board] = 0;
+      firstPaths[0][board] = board;
+      lastPaths[0][board] = board + 1;
+
+      while (allLetters != 0)
+      {
+         letterBoards[0][Integer.numberOfTrailingZeros (allLetters)] |=
+               1L << board;
+         allLetters &= allLetters - 1;
+      }
+   } // addBoard
+
+   /************************************************************************
+    * ensureLevel - This method makes sure there is room for the paths at
+    *       the given depth.
+    *
+    * @return none
+    * @param int
+    ************************************************************************/
+   private void ensureLevel (int level)
+   {
+      if (level >= pathCounts.length)
+      {
+         int size = level + 1;
+         int old = pathCounts.length;
+
+         pathEnds = Arrays.copyOf (pathEnds, size);
+         pathVisited = Arrays.copyOf (pathVisited, size);
+         pathCounts = Arrays.copyOf (pathCounts, size);
+         firstPaths = Arrays.copyOf (firstPaths, size);
+         lastPaths = Arrays.copyOf (lastPaths, size);
+         letterBoards = Arrays.copyOf (letterBoards, size);
+         levelLetters = Arrays.copyOf (levelLetters, size);
+
+         for (int i = old; i < size; i++)
+         {
+            pathEnds[i] = new byte[64];
+            pathVisited[i] = new long[64];
+            firstPaths[i] = new int[MAX_BOARDS];
+            lastPaths[i] = new int[MAX_BOARDS];
+            letterBoards[i] = new long[ALPHABET_SIZE];
+         }
+      }
+   } // ensureLevel
+
+   /************************************************************************
+    * extendPaths - This method extends the paths at the given depth on the
+    *       given boards by one cell holding the letter, storing the longer
+    *       paths at the next depth, and returns the boards that have any.
+    *       The letters next to the ends of the longer paths are kept for the
+    *       next depth. Only the boards with the letter next to a path are
+    *       searched.
+    *
+    * @return long
+    * @param int, int, long
+    ************************************************************************/
+   private long extendPaths (int level, int letter, long boards)
+   {
+      int next = level + 1;
+      byte[] ends = pathEnds[level];
+      long[] visited = pathVisited[level];
+      byte[] nextEnds = pathEnds[next];
+      long[] nextVisited = pathVisited[next];
+      long[] nextLetterBoards = letterBoards[next];
+      int count = 0;
+      long nextBoards = 0;
+      long remaining = boards & letterBoards[level][letter];
+
+      int reachedLetters = 0;
+
+      // Only the letters set by the last extension to this depth are cleared
+      for (int old = levelLetters[next]; old != 0; old &= old - 1)
+      {
+         nextLetterBoards[Integer.numberOfTrailingZeros (old)] = 0;
+      }
+
+      while (remaining != 0)
+      {
+         int board = Long.numberOfTrailingZeros (remaining);
+         int base = board * SLOTS;
+         int first = count;
+         int reached = 0;
+         long cells = letterCells[board * ALPHABET_SIZE + letter];
+
+         for (int i = firstPaths[level][board]; i < lastPaths[level][board];
+               i++)
+         {
+            long steps = neighborMasks[base + ends[i]] & cells & ~visited[i];
+
+            while (steps != 0)
+            {
+               int cell = Long.numberOfTrailingZeros (steps);
+
+               if (count == nextEnds.length)
+               {
+                  nextEnds = Arrays.copyOf (nextEnds, count * 2);
+                  nextVisited = Arrays.copyOf (nextVisited, count * 2);
+                  pathEnds[next] = nextEnds;
+                  pathVisited[next] = nextVisited;
+               }
+               nextEnds[count] = (byte) cell;
+               nextVisited[count] = visited[i] | (1L << cell);
+               count++;
+               reached |= neighborLetters[base + cell];
+               steps &= steps - 1;
+            }
+         }
+
+         if (count > first)
+         {
+            firstPaths[next][board] = first;
+            lastPaths[next][board] = count;
+            nextBoards |= 1L << board;
+            reachedLetters |= reached;
+
+            while (reached != 0)
+            {
+               nextLetterBoards[Integer.numberOfTrailingZeros (reached)] |=
+                     1L << board;
+               reached &= reached - 1;
+            }
+         }
+         remaining &= remaining - 1;
+      }
+      pathCounts[next] = count;
+      levelLetters[next] = reachedLetters;
+      return nextBoards;
+   } // extendPaths
+
+   /************************************************************************
+    * followPrefix - This method records the word ending at the node, whose
+    *       prefix has the given number of words before it and whose paths
+    *       at the given depth are on the boards in the mask, and follows
+    *       each child letter in the given set into a longer prefix.
+    *       A child is only followed while some board still has a path
+    *       spelling it. Letters are followed in alphabetical order, so each
+    *       board's ordinals are found in increasing order.
+    *
+    * @return none
+    * @param int, int, int, int, long
+    ************************************************************************/
+   private void followPrefix (int node, int prefix, int level, int letters,
+         long boards)
+   {
+      if (level >= Scoring.MIN_WORD_LENGTH && graph.isWord (node))
+      {
+         recordWord (boards, prefix, level);
+      }
+
+      if (level < Board.MAX_CELLS)
+      {
+         ensureLevel (level + 1);
+
+         while (letters != 0)
+         {
+            int letter = Integer.numberOfTrailingZeros (letters);
+            int child = graph.child (node, (char) ('a' + letter));
+
+            if (child != WordGraph.NO_NODE)
+            {
+               long nextBoards = extendPaths (level, letter, boards);
+
+               // The branch dies on every board at once when its mask is empty
+               if (nextBoards != 0)
+               {
+                  followPrefix (child, prefix + graph.wordsBefore (node,
+                        letter), level + 1, levelLetters[level + 1],
+                        nextBoards);
+               }
+            }
+            letters &= letters - 1;
+         }
+      }
+   } // followPrefix
+
+   /************************************************************************
+    * recordWord - This method records a word of the given length for every
+    *       board in the mask.
+    *
+    * @return none
+    * @param long, int, int
+    ************************************************************************/
+   private void recordWord (long boards, int ordinal, int length)
+   {
+      while (boards != 0)
+      {
+         int board = Long.numberOfTrailingZeros (boards);
+
+         if (foundCounts[board] == found[board].length)
+         {
+            found[board] = Arrays.copyOf (found[board], foundCounts[board] * 2);
+         }
+         found[board][foundCounts[board]] = ordinal;
+         foundCounts[board]++;
+         foundScores[board] += Scoring.wordScore (length);
+         boards &= boards - 1;
+      }
+   } // recordWord
+
+} // MultiBoardSolver
@@ -0,0 +1,169 @@
+package model;
+
+/***************************************************************************
+ * OptimizerReport - This class summarizes a run of a BoardOptimizer, or
+ *       its progress so far: the best board and its score, how many moves
+ *       were tried and accepted, and how long the run has taken.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class OptimizerReport
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final Board bestBoard;
+   private final int bestScore;
+   private final long moves;
+   private final long acceptedMoves;
+   private final long elapsedNanos;
+   private final int chains;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * OptimizerReport - This method constructs an OptimizerReport.
+    *
+    * @param Board, int, long, long, long, int
+    ************************************************************************/
+   OptimizerReport (Board bestBoard, int bestScore, long moves,
+         long acceptedMoves, long elapsedNanos, int chains)
+   {
+      this.bestBoard = bestBoard;
+      this.bestScore = bestScore;
+      this.moves = moves;
+      this.acceptedMoves = acceptedMoves;
+      this.elapsedNanos = elapsedNanos;
+      this.chains = chains;
+   } // OptimizerReport
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getAcceptanceRate - This method returns the fraction of the moves
+    *       tried that were accepted.
+    *
+    * @return double
+    * @param none
+    ************************************************************************/
+   public double getAcceptanceRate ()
+   {
+      return (moves > 0) ? (double) acceptedMoves / moves : 0;
+   } // getAcceptanceRate
+
+   /************************************************************************
+    * getAcceptedMoves - This method returns the number of moves accepted.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getAcceptedMoves ()
+   {
+      return acceptedMoves;
+   } // getAcceptedMoves
+
+   /************************************************************************
+    * getBestBoard - This method returns the highest scoring board found,
+    *       or null if no board has been scored yet.
+    *
+    * @return Board
+    * @param none
+    ************************************************************************/
+   public Board getBestBoard ()
+   {
+      return bestBoard;
+   } // getBestBoard
+
+   /************************************************************************
+    * getBestScore - This method returns the score of the best board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getBestScore ()
+   {
+      return bestScore;
+   } // getBestScore
+
+   /************************************************************************
+    * getChains - This method returns the number of chains run.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getChains ()
+   {
+      return chains;
+   } // getChains
+
+   /************************************************************************
+    * getElapsedNanos - This method returns how long the run has taken.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getElapsedNanos ()
+   {
+      return elapsedNanos;
+   } // getElapsedNanos
+
+   /************************************************************************
+    * getMoves - This method returns the number of moves tried by all the
+    *       chains.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getMoves ()
+   {
+      return moves;
+   } // getMoves
+
+   /************************************************************************
+    * getMovesPerSecond - This method returns the number of moves tried per
+    *       second of elapsed time.
+    *
+    * @return double
+    * @param none
+    ************************************************************************/
+   public double getMovesPerSecond ()
+   {
+      return (elapsedNanos > 0) ? moves * 1e9 / elapsedNanos : 0;
+   } // getMovesPerSecond
+
+   /************************************************************************
+    * toString - This method provides a string representation of the report.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      String str = String.format ("Best score %d after %d moves in %.1f ms "
+            + "on %d chains (%.0f moves/s, %.1f%% accepted)", bestScore,
+            moves, elapsedNanos / 1e6, chains, getMovesPerSecond (),
+            getAcceptanceRate () * 100);
+
+      if (bestBoard != null)
+      {
+         str += "\n" + bestBoard;
+      }
+      return str;
+   } // toString
+
+} // OptimizerReport
@@ -0,0 +1,530 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/***************************************************************************
+ * PackedBoard - This class is a compact, immutable value holding the
+ *       letters of a board at 5 bits per cell, 12 cells to a long, so a
+ *       4x4 board fits in two longs. Packed boards can be compared, hashed
+ *       and stored cheaply, and converted to and from Board, the char[][]
+ *       form taken by the Board constructor, the Board.toString text and
+ *       an array of longs.
+ *
+ *       Rotating or reflecting a board does not change the words on it, so
+ *       canonical returns the smallest of the 8 rotations and reflections
+ *       of a board; boards with the same words by symmetry have the same
+ *       canonical form. Rotating a board that is not square by a quarter
+ *       turn swaps its rows and columns.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class PackedBoard implements Comparable<PackedBoard>
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int BITS_PER_CELL = 5;
+   private static final int CELLS_PER_LONG = 12;
+   private static final int CELL_MASK = (1 << BITS_PER_CELL) - 1;
+   private static final int SYMMETRIES = 8;
+
+   // For each board size, the cell order of each rotation and reflection
+   private static final AtomicReferenceArray<int[][]> symmetryTables =
+         new AtomicReferenceArray<int[][]> ((Board.MAX_CELLS + 1)
+               * (Board.MAX_CELLS + 1));
+
+   /*
+    * attributes*************
+    */
+
+   private final int rows;
+   private final int columns;
+   private final long[] bits;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * PackedBoard - This method constructs a PackedBoard from its packed
+    *       letters. The array is kept, not copied.
+    *
+    * @param int, int, long[]
+    ************************************************************************/
+   private PackedBoard (int rows, int columns, long[] bits)
+   {
+      this.rows = rows;
+      this.columns = columns;
+      this.bits = bits;
+   } // PackedBoard
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * of - This method packs the letters of a board. Every letter must be
+    *       'a' to 'z'.
+    *
+    * @return PackedBoard
+    * @param Board
+    ************************************************************************/
+   public static PackedBoard of (Board board)
+   {
+      return pack (board.getRows (), board.getColumns (), board.getCells ());
+   } // of
+
+   /************************************************************************
+    * of - This method packs the letters of a preset board, as given to the
+    *       Board constructor. Every letter must be 'a' to 'z' (either case).
+    *
+    * @return PackedBoard
+    * @param char[][]
+    ************************************************************************/
+   public static PackedBoard of (char[][] letters)
+   {
+      return of (new Board (letters));
+   } // of
+
+   /************************************************************************
+    * fromLongs - This method rebuilds a packed board from the longs given
+    *       by toLongs.
+    *
+    * @return PackedBoard
+    * @param int, int, long[]
+    ************************************************************************/
+   public static PackedBoard fromLongs (int rows, int columns, long[] longs)
+   {
+      checkSize (rows, columns);
+
+      if (longs.length != longCount (rows * columns))
+      {
+         throw new IllegalArgumentException ("Expected "
+               + longCount (rows * columns) + " longs but got "
+               + longs.length);
+      }
+
+      PackedBoard board = new PackedBoard (rows, columns,
+            Arrays.copyOf (longs, longs.length));
+
+      for (int cell = 0; cell < rows * columns; cell++)
+      {
+         int code = board.code (cell);
+
+         if (code < 1 || code > 26)
+         {
+            throw new IllegalArgumentException ("Bad letter code " + code
+                  + " in cell " + cell);
+         }
+      }
+      return board;
+   } // fromLongs
+
+   /************************************************************************
+    * fromString - This method parses the text made by toString (or by
+    *       Board.toString): one line per row, with the letters separated by
+    *       spaces.
+    *
+    * @return PackedBoard
+    * @param String
+    ************************************************************************/
+   public static PackedBoard fromString (String text)
+   {
+      String[] lines = text.trim ().split ("\\s*\\n\\s*");
+      char[][] letters = new char[lines.length][];
+
+      for (int i = 0; i < lines.length; i++)
+      {
+         String[] row = lines[i].trim ().split ("\\s+");
+         letters[i] = new char[row.length];
+
+         for (int j = 0; j < row.length; j++)
+         {
+            if (row[j].length () != 1
+                  || (i > 0 && row.length != letters[0].length))
+            {
+               throw new IllegalArgumentException ("Bad board text: " + text);
+            }
+            letters[i][j] = row[j].charAt (0);
+         }
+      }
+      return of (letters);
+   } // fromString
+
+   /************************************************************************
+    * canonical - This method returns the smallest of the rotations and
+    *       reflections of this board.
+    *
+    * @return PackedBoard
+    * @param none
+    ************************************************************************/
+   public PackedBoard canonical ()
+   {
+      int[][] table = symmetryTable (rows, columns);
+      long[] best = bits;
+      int bestRows = rows;
+      int bestColumns = columns;
+      long[] candidate = new long[bits.length];
+
+      for (int symmetry = 1; symmetry < SYMMETRIES; symmetry++)
+      {
+         int[] order = table[symmetry];
+         boolean turned = isQuarterTurn (symmetry);
+         int newRows = turned ? columns : rows;
+         int newColumns = turned ? rows : columns;
+
+         Arrays.fill (candidate, 0);
+
+         for (int cell = 0; cell < order.length; cell++)
+         {
+            setCode (candidate, cell, code (order[cell]));
+         }
+
+         if (compare (newRows, newColumns, candidate, bestRows, bestColumns,
+               best) < 0)
+         {
+            if (best == bits)
+            {
+               best = candidate;
+               candidate = new long[bits.length];
+            }
+            else
+            {
+               long[] swap = best;
+               best = candidate;
+               candidate = swap;
+            }
+            bestRows = newRows;
+            bestColumns = newColumns;
+         }
+      }
+      return (best == bits) ? this
+            : new PackedBoard (bestRows, bestColumns, best);
+   } // canonical
+
+   /************************************************************************
+    * compareTo - This method orders packed boards by their size and then
+    *       by their packed letters.
+    *
+    * @return int
+    * @param PackedBoard
+    ************************************************************************/
+   public int compareTo (PackedBoard other)
+   {
+      return compare (rows, columns, bits, other.rows, other.columns,
+            other.bits);
+   } // compareTo
+
+   /************************************************************************
+    * equals - This method returns true if the other object is a packed
+    *       board with the same size and letters.
+    *
+    * @return boolean
+    * @param Object
+    ************************************************************************/
+   public boolean equals (Object other)
+   {
+      boolean equal = false;
+
+      if (other instanceof PackedBoard)
+      {
+         PackedBoard board = (PackedBoard) other;
+         equal = rows == board.rows && columns == board.columns
+               && Arrays.equals (bits, board.bits);
+      }
+      return equal;
+   } // equals
+
+   /************************************************************************
+    * getColumns - This method returns the number of columns on the board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getColumns ()
+   {
+      return columns;
+   } // getColumns
+
+   /************************************************************************
+    * getLetter - This method returns the letter in the given row and
+    *       column.
+    *
+    * @return char
+    * @param int, int
+    ************************************************************************/
+   public char getLetter (int i, int j)
+   {
+      return (char) ('a' - 1 + code (i * columns + j));
+   } // getLetter
+
+   /************************************************************************
+    * getRows - This method returns the number of rows on the board.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getRows ()
+   {
+      return rows;
+   } // getRows
+
+   /************************************************************************
+    * hashCode - This method returns a hash code of the size and letters.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int hashCode ()
+   {
+      return (rows * 31 + columns) * 31 + Arrays.hashCode (bits);
+   } // hashCode
+
+   /************************************************************************
+    * toBoard - This method unpacks the letters into a Board.
+    *
+    * @return Board
+    * @param none
+    ************************************************************************/
+   public Board toBoard ()
+   {
+      char[] cells = new char[rows * columns];
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         cells[cell] = (char) ('a' - 1 + code (cell));
+      }
+      return new Board (rows, columns, cells);
+   } // toBoard
+
+   /************************************************************************
+    * toCharArray - This method unpacks the letters into the form taken by
+    *       the Board constructor.
+    *
+    * @return char[][]
+    * @param none
+    ************************************************************************/
+   public char[][] toCharArray ()
+   {
+      char[][] letters = new char[rows][columns];
+
+      for (int i = 0; i < rows; i++)
+      {
+         for (int j = 0; j < columns; j++)
+         {
+            letters[i][j] = getLetter (i, j);
+         }
+      }
+      return letters;
+   } // toCharArray
+
+   /************************************************************************
+    * toLongs - This method returns a copy of the packed letters.
+    *
+    * @return long[]
+    * @param none
+    ************************************************************************/
+   public long[] toLongs ()
+   {
+      return Arrays.copyOf (bits, bits.length);
+   } // toLongs
+
+   /************************************************************************
+    * toString - This method provides the same string representation of the
+    *       board as Board.toString.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      StringBuffer str = new StringBuffer ();
+
+      for (int i = 0; i < rows; i++)
+      {
+         for (int j = 0; j < columns; j++)
+         {
+            str.append (getLetter (i, j));
+            str.append (' ');
+         }
+         str.append ('\n');
+      }
+      return str.toString ().toUpperCase ();
+   } // toString
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * checkSize - This method checks the size of a board.
+    *
+    * @return none
+    * @param int, int
+    ************************************************************************/
+   private static void checkSize (int rows, int columns)
+   {
+      if (rows < 1 || columns < 1 || rows * columns > Board.MAX_CELLS)
+      {
+         throw new IllegalArgumentException ("A board must have between 1 and "
+               + Board.MAX_CELLS + " cells: " + rows + "x" + columns);
+      }
+   } // checkSize
+
+   /************************************************************************
+    * code - This method returns the 5-bit code (1 to 26) of a cell.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private int code (int cell)
+   {
+      int shift = (cell % CELLS_PER_LONG) * BITS_PER_CELL;
+      return (int) (bits[cell / CELLS_PER_LONG] >>> shift) & CELL_MASK;
+   } // code
+
+   /************************************************************************
+    * compare - This method orders two packed boards by size and then by
+    *       their packed letters.
+    *
+    * @return int
+    * @param int, int, long[], int, int, long[]
+    ************************************************************************/
+   private static int compare (int rows, int columns, long[] bits,
+         int otherRows, int otherColumns, long[] otherBits)
+   {
+      int result = Integer.compare (rows, otherRows);
+
+      if (result == 0)
+      {
+         result = Integer.compare (columns, otherColumns);
+      }
+
+      for (int i = 0; i < bits.length && result == 0; i++)
+      {
+         result = Long.compare (bits[i], otherBits[i]);
+      }
+      return result;
+   } // compare
+
+   /************************************************************************
+    * isQuarterTurn - This method returns true if the given symmetry swaps
+    *       the rows and columns.
+    *
+    * @return boolean
+    * @param int
+    ************************************************************************/
+   private static boolean isQuarterTurn (int symmetry)
+   {
+      return symmetry >= 4;
+   } // isQuarterTurn
+
+   /************************************************************************
+    * longCount - This method returns the number of longs needed for the
+    *       given number of cells.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private static int longCount (int cellCount)
+   {
+      return (cellCount + CELLS_PER_LONG - 1) / CELLS_PER_LONG;
+   } // longCount
+
+   /************************************************************************
+    * pack - This method packs the letters of a board given in row order.
+    *
+    * @return PackedBoard
+    * @param int, int, char[]
+    ************************************************************************/
+   private static PackedBoard pack (int rows, int columns, char[] cells)
+   {
+      checkSize (rows, columns);
+
+      long[] bits = new long[longCount (cells.length)];
+
+      for (int cell = 0; cell < cells.length; cell++)
+      {
+         char letter = Character.toLowerCase (cells[cell]);
+
+         if (letter < 'a' || letter > 'z')
+         {
+            throw new IllegalArgumentException ("Cannot pack the letter '"
+                  + cells[cell] + "' in cell " + cell);
+         }
+         setCode (bits, cell, letter - 'a' + 1);
+      }
+      return new PackedBoard (rows, columns, bits);
+   } // pack
+
+   /************************************************************************
+    * setCode - This method stores the 5-bit code of a cell.
+    *
+    * @return none
+    * @param long[], int, int
+    ************************************************************************/
+   private static void setCode (long[] bits, int cell, int code)
+   {
+      int shift = (cell % CELLS_PER_LONG) * BITS_PER_CELL;
+      bits[cell / CELLS_PER_LONG] |= ((long) code) << shift;
+   } // setCode
+
+   /************************************************************************
+    * symmetryTable - This method returns, for each of the 8 rotations and
+    *       reflections of a board of the given size, the cell of this board
+    *       that lands in each cell of the transformed board. Symmetries 0-3
+    *       keep the size (identity, half turn, and the two mirror images);
+    *       symmetries 4-7 swap rows and columns (the two quarter turns and
+    *       the two diagonal mirror images).
+    *
+    * @return int[][]
+    * @param int, int
+    ************************************************************************/
+   private static int[][] symmetryTable (int rows, int columns)
+   {
+      int size = rows * (Board.MAX_CELLS + 1) + columns;
+      int[][] table = symmetryTables.get (size);
+
+      if (table == null)
+      {
+         int last = rows - 1;
+         int lastColumn = columns - 1;
+         table = new int[SYMMETRIES][rows * columns];
+
+         for (int i = 0; i < rows; i++)
+         {
+            for (int j = 0; j < columns; j++)
+            {
+               int cell = i * columns + j;
+
+               // Transformed boards with the same size
+               table[0][cell] = cell;
+               table[1][(last - i) * columns + (lastColumn - j)] = cell;
+               table[2][i * columns + (lastColumn - j)] = cell;
+               table[3][(last - i) * columns + j] = cell;
+
+               // Transformed boards with rows and columns swapped
+               table[4][j * rows + i] = cell;
+               table[5][(lastColumn - j) * rows + (last - i)] = cell;
+               table[6][j * rows + (last - i)] = cell;
+               table[7][(lastColumn - j) * rows + i] = cell;
+            }
+         }
+         symmetryTables.compareAndSet (size, null, table);
+      }
+      return table;
+   } // symmetryTable
+
+} // PackedBoard
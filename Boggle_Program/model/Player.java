@@ -2,8 +2,7 @@ package model;
 
 import java.awt.Toolkit;
 import java.util.ArrayList;
-
-import utilities.StringSet;
+import java.util.BitSet;
 
 import model.Board;
 import model.Dictionary;
@@ -15,7 +14,8 @@ import model.Dictionary;
  *       the competitor in each round. At the end of the round, the
  *       player is allowed to reject entered words - those are discarded from 
  *       the list. Words found by the player that are not rejected are added 
- *       to the dictionary.
+ *       to the dictionary. The words are kept as sets of the
+ *       dictionary's word ordinals.
  * 
  * @author Alexander Anderson
  * 
@@ -29,7 +29,9 @@ import model.Dictionary;
  * 
  *          None
  * 
- * Modifications: 12/04/2012: Updated to support graphical user interface.
+ * Modifications: 10/18/2026: The word lists are BitSets of dictionary
+ *                            word ordinals rather than StringSets.
+ *                12/04/2012: Updated to support graphical user interface.
  *                10/28/2012: Made this class an abstract class to allow
  *                            for inheritance by both human and computer
  *                            competitors.
@@ -46,12 +48,12 @@ public abstract class Player
     * attributes*************
     */
 
-   protected ArrayList<StringSet> allWords = new ArrayList<StringSet> ();
+   protected ArrayList<BitSet> allWords = new ArrayList<BitSet> ();
    protected Board board;
    protected Dictionary dictionary;
    protected int score = 0;
-   protected StringSet rejectedWords = new StringSet ();
-   protected StringSet roundWords = new StringSet ();
+   protected BitSet rejectedWords = new BitSet ();
+   protected BitSet roundWords = new BitSet ();
 
    /*
     * constructors***************
@@ -93,23 +95,24 @@ public abstract class Player
    
    /************************************************************************
     * getRejectedWords - This method provides the words rjected for a 
-    *       given round.
+    *       given round, as dictionary ordinals.
     * 
-    * @return none
+    * @return BitSet
     * @param none
     ************************************************************************/
-   public StringSet getRejectedWords ()
+   public BitSet getRejectedWords ()
    {
       return rejectedWords;
    } // getRejectedWords
 
    /************************************************************************
-    * getWords - This method provides the words entered for a given round.
+    * getWords - This method provides the words entered for a given round,
+    *       as dictionary ordinals.
     * 
-    * @return none
+    * @return BitSet
     * @param none
     ************************************************************************/
-   public StringSet getWords ()
+   public BitSet getWords ()
    {
       return roundWords;
    } // getWords
@@ -127,8 +130,8 @@ public abstract class Player
       allWords.add (roundWords);
       
       this.board = board;
-      rejectedWords = new StringSet ();
-      roundWords = new StringSet ();
+      rejectedWords = new BitSet ();
+      roundWords = new BitSet ();
    } // newRound
 
 
@@ -147,8 +150,9 @@ public abstract class Player
          if (word.length () > 0)
          {
             String rejectedWord = word.toLowerCase ();
-            roundWords.deleteWord (rejectedWord);
-            rejectedWords.addWord (rejectedWord);
+            int ordinal = dictionary.ordinalOf (rejectedWord);
+            roundWords.clear (ordinal);
+            rejectedWords.set (ordinal);
             dictionary.removeWordFromDictionary (rejectedWord);
          }
       }
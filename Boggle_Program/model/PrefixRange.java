@@ -0,0 +1,205 @@
+package model;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import utilities.WordGraph;
+
+/***************************************************************************
+ * PrefixRange - This class is the words of a dictionary that start with a
+ *       prefix, without copying them. The words in the dictionary's word
+ *       graph are numbered in alphabetical order, and those starting with a
+ *       prefix have the numbers from getStart up to but not including
+ *       getEnd. Words with characters other than 'a' to 'z' cannot go in
+ *       the graph and are kept in a small array beside the range, and count
+ *       and the iterator take them into account.
+ *
+ *       A range is made by Dictionary.prefixRange and does not change: the
+ *       graph cannot change, and the array is copied when the range is
+ *       made, so a range can be read without locking while the dictionary
+ *       goes on learning words.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class PrefixRange implements Iterable<String>
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final WordGraph graph;
+   private final String prefix;
+   private final int start;
+   private final int end;
+   private final String[] otherWords;     // sorted, not from a to z
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * PrefixRange - This method constructs a PrefixRange over the words of
+    *       the graph that start with the prefix, with the sorted words
+    *       starting with it that the graph cannot hold.
+    *
+    * @param WordGraph, String, String[]
+    ************************************************************************/
+   PrefixRange (WordGraph graph, String prefix, String[] otherWords)
+   {
+      this.graph = graph;
+      this.prefix = prefix;
+      this.otherWords = otherWords;
+      start = graph.countBefore (prefix);
+      end = start + graph.countWithPrefix (prefix);
+   } // PrefixRange
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * count - This method returns the number of words in the dictionary
+    *       that start with the prefix.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int count ()
+   {
+      return end - start + otherWords.length;
+   } // count
+
+   /************************************************************************
+    * getEnd - This method returns one more than the graph ordinal of the
+    *       last word in the graph starting with the prefix.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getEnd ()
+   {
+      return end;
+   } // getEnd
+
+   /************************************************************************
+    * getPrefix - This method returns the prefix.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String getPrefix ()
+   {
+      return prefix;
+   } // getPrefix
+
+   /************************************************************************
+    * getStart - This method returns the graph ordinal of the first word in
+    *       the graph starting with the prefix. If there is none it is where
+    *       such a word would go, and equal to getEnd.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getStart ()
+   {
+      return start;
+   } // getStart
+
+   /************************************************************************
+    * isEmpty - This method returns true if no word in the dictionary
+    *       starts with the prefix.
+    *
+    * @return boolean
+    * @param none
+    ************************************************************************/
+   public boolean isEmpty ()
+   {
+      return count () == 0;
+   } // isEmpty
+
+   /************************************************************************
+    * iterator - This method returns an iterator over the words starting
+    *       with the prefix in alphabetical order. Words are made as they
+    *       are asked for.
+    *
+    * @return Iterator<String>
+    * @param none
+    ************************************************************************/
+   public Iterator<String> iterator ()
+   {
+      return new RangeIterator ();
+   } // iterator
+
+   /************************************************************************
+    * toString - This method provides a string representation of the
+    *       range.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      return "\"" + prefix + "\" [" + start + ", " + end + "), " + count ()
+            + " words";
+   } // toString
+
+   /*
+    * private classes*****************
+    */
+
+   /************************************************************************
+    * RangeIterator - This class merges the graph's words with the prefix
+    *       with the other words.
+    ************************************************************************/
+   private class RangeIterator implements Iterator<String>
+   {
+      private final Iterator<String> graphWords = graph.iterator (prefix);
+      private String nextGraphWord = nextGraphWord ();
+      private int nextOther = 0;
+
+      public boolean hasNext ()
+      {
+         return nextGraphWord != null || nextOther < otherWords.length;
+      }
+
+      public String next ()
+      {
+         String word;
+
+         if (!hasNext ())
+         {
+            throw new NoSuchElementException ();
+         }
+
+         if (nextOther == otherWords.length || (nextGraphWord != null
+               && nextGraphWord.compareTo (otherWords[nextOther]) < 0))
+         {
+            word = nextGraphWord;
+            nextGraphWord = nextGraphWord ();
+         }
+         else
+         {
+            word = otherWords[nextOther];
+            nextOther++;
+         }
+         return word;
+      }
+
+      private String nextGraphWord ()
+      {
+         return graphWords.hasNext () ? graphWords.next () : null;
+      }
+
+   } // RangeIterator
+
+} // PrefixRange
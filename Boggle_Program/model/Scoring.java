@@ -0,0 +1,77 @@
+package model;
+
+/***************************************************************************
+ * Scoring - This class holds the Boggle scoring rules, so that the game and
+ *       the solvers score words the same way. Words are scored based on
+ *       their length, as follows:
+ *             Length      Score
+ *               <3          0
+ *              3-4          1
+ *               5           2
+ *               6           3
+ *               7           5
+ *               >7          11
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class Scoring
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final int MIN_WORD_LENGTH = 3;
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int[] SCORES = { 0, 0, 0, 1, 1, 2, 3, 5 };
+   private static final int LONG_WORD_SCORE = 11;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * Scoring - This class only has static methods.
+    *
+    * @param none
+    ************************************************************************/
+   private Scoring ()
+   {
+   } // Scoring
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * wordScore - This method returns the score of a word of the given
+    *       length.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   public static int wordScore (int length)
+   {
+      int score = LONG_WORD_SCORE;
+
+      if (length < SCORES.length)
+      {
+         score = SCORES[Math.max (length, 0)];
+      }
+      return score;
+   } // wordScore
+
+} // Scoring
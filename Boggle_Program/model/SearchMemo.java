@@ -0,0 +1,151 @@
+package model;
+
+import java.util.Arrays;
+
+/***************************************************************************
+ * SearchMemo - This class remembers the states a board search has already
+ *       explored, so that a search can skip a state it comes back to. A
+ *       state is the cell a path ends at, the prefix it spells (the number
+ *       of words before it in a word graph, or a position in a word) and the
+ *       set of cells it has visited. A graph node is not enough, as many
+ *       prefixes share one; prefixes of the same length have different
+ *       numbers, and the visited cells give the length. Everything below a
+ *       state depends only on the state, so a second visit finds nothing
+ *       the first did not. Boards with many copies of a letter reach the
+ *       same state by many paths (e1 e2 e3 and e2 e1 e3 both end at e3
+ *       having used the same cells), which is where the memo pays for its
+ *       lookups.
+ *
+ *       The table has a fixed size and each state has one slot, so a new
+ *       state simply replaces the one in its slot; a forgotten state is only
+ *       searched again. Each search uses a new stamp rather than clearing
+ *       the table. A memo must only be used by one thread at a time; use
+ *       forThread to get the calling thread's memo.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+class SearchMemo
+{
+
+   /*
+    * package static attributes***************************
+    */
+
+   static final int TABLE_BITS = 15;            // 32768 states, 512 KB
+   static final int REPEATED_PAIRS_MIN = 12;    // see isRepetitive
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+   private static final ThreadLocal<SearchMemo> threadMemo =
+         new ThreadLocal<SearchMemo> ();
+
+   /*
+    * attributes*************
+    */
+
+   private final long[] visitedKeys = new long[1 << TABLE_BITS];
+   private final int[] stateKeys = new int[1 << TABLE_BITS];  // prefix, cell
+   private final int[] stamps = new int[1 << TABLE_BITS];
+   private int stamp = 0;
+
+   /*
+    * package methods*****************
+    */
+
+   /************************************************************************
+    * forThread - This method returns the calling thread's memo, making it
+    *       the first time it is needed.
+    *
+    * @return SearchMemo
+    * @param none
+    ************************************************************************/
+   static SearchMemo forThread ()
+   {
+      SearchMemo memo = threadMemo.get ();
+
+      if (memo == null)
+      {
+         memo = new SearchMemo ();
+         threadMemo.set (memo);
+      }
+      return memo;
+   } // forThread
+
+   /************************************************************************
+    * isRepetitive - This method returns true if the board has enough
+    *       repeated letters for a memo to pay off. It counts the pairs of
+    *       cells with the same letter, which grows with the square of each
+    *       letter's count: a 4x4 board from the classic dice rarely has
+    *       more than 6, one with half its cells the same letter has 28.
+    *
+    * @return boolean
+    * @param byte[]
+    ************************************************************************/
+   static boolean isRepetitive (byte[] letterCounts)
+   {
+      int pairs = 0;
+
+      for (int count : letterCounts)
+      {
+         pairs += count * (count - 1) / 2;
+      }
+      return pairs >= REPEATED_PAIRS_MIN;
+   } // isRepetitive
+
+   /************************************************************************
+    * begin - This method starts a new search, forgetting every state of
+    *       the last one. The stamps are only cleared when they wrap around.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   void begin ()
+   {
+      stamp++;
+
+      if (stamp == 0)
+      {
+         Arrays.fill (stamps, 0);
+         stamp = 1;
+      }
+   } // begin
+
+   /************************************************************************
+    * visit - This method records a state of the current search and returns
+    *       true if it was not already recorded, in which case it has to be
+    *       searched. The prefix must be less than 2^25.
+    *
+    * @return boolean
+    * @param int, int, long
+    ************************************************************************/
+   boolean visit (int cell, int prefix, long visited)
+   {
+      int state = (prefix << 6) | cell;
+      long hash = (visited ^ ((long) state << 32 | state)) * HASH_MULTIPLIER;
+      int slot = (int) (hash >>> (64 - TABLE_BITS));
+      boolean isNew = stamps[slot] != stamp || visitedKeys[slot] != visited
+            || stateKeys[slot] != state;
+
+      if (isNew)
+      {
+         stamps[slot] = stamp;
+         visitedKeys[slot] = visited;
+         stateKeys[slot] = state;
+      }
+      return isNew;
+   } // visit
+
+} // SearchMemo
@@ -0,0 +1,338 @@
+package model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import utilities.StringSet;
+
+/***************************************************************************
+ * SolutionCache - This class keeps the solutions of recently solved boards
+ *       so that boards that come up again (the puzzle of the day, replays)
+ *       are not solved again. Entries are keyed by the canonical packed
+ *       board, so a rotated or mirrored board finds the same entry, and by
+ *       the dictionary version, so a result is never used after a word has
+ *       been added to or removed from the dictionary. When the version
+ *       changes the old entries are dropped at once. A packed board only
+ *       holds the letters 'a' to 'z', so a board with any other cell, even
+ *       an upper case letter, is solved without the cache.
+ *
+ *       The cache holds at most maxEntries entries and roughly maxBytes of
+ *       results; the least recently used entries are evicted first. The
+ *       cache is thread safe. Boards are solved outside the lock, so two
+ *       threads missing on the same board may both solve it.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class SolutionCache
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int ENTRY_OVERHEAD_BYTES = 160;   // key, entry, result
+
+   /*
+    * attributes*************
+    */
+
+   private final Dictionary dictionary;
+   private final int maxEntries;
+   private final long maxBytes;
+
+   private final LinkedHashMap<PackedBoard, SolveResult> entries =
+         new LinkedHashMap<PackedBoard, SolveResult> (16, 0.75f, true);
+   private long entriesVersion = 0;   // dictionary version of the entries
+   private long bytes = 0;
+
+   private long hits = 0;
+   private long misses = 0;
+   private long evictions = 0;
+   private long invalidations = 0;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * SolutionCache - This method constructs a cache holding at most the
+    *       given number of solutions.
+    *
+    * @param Dictionary, int
+    ************************************************************************/
+   public SolutionCache (Dictionary dictionary, int maxEntries)
+   {
+      this (dictionary, maxEntries, Long.MAX_VALUE);
+   } // SolutionCache
+
+   /************************************************************************
+    * SolutionCache - This method constructs a cache holding at most the
+    *       given number of solutions and about the given number of bytes.
+    *
+    * @param Dictionary, int, long
+    ************************************************************************/
+   public SolutionCache (Dictionary dictionary, int maxEntries, long maxBytes)
+   {
+      this.dictionary = dictionary;
+      this.maxEntries = Math.max (maxEntries, 1);
+      this.maxBytes = Math.max (maxBytes, 1);
+      entriesVersion = dictionary.getVersion ();
+   } // SolutionCache
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * dictionaryWordsOnBoard - This method returns the dictionary words on
+    *       the board, as Board.dictionaryWordsOnBoard does, using the cache.
+    *
+    * @return StringSet
+    * @param Board
+    ************************************************************************/
+   public StringSet dictionaryWordsOnBoard (Board board)
+   {
+      DictionarySnapshot words = dictionary.getSnapshot ();
+      return solve (board, words).toStringSet (words.getWordGraph ());
+   } // dictionaryWordsOnBoard
+
+   /************************************************************************
+    * solve - This method returns the solution of the board, solving it
+    *       only if it is not in the cache. The ordinals are those of the
+    *       dictionary's current word graph.
+    *
+    * @return SolveResult
+    * @param Board
+    ************************************************************************/
+   public SolveResult solve (Board board)
+   {
+      return solve (board, dictionary.getSnapshot ());
+   } // solve
+
+   /************************************************************************
+    * clear - This method empties the cache. The counters are kept.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   public synchronized void clear ()
+   {
+      entries.clear ();
+      bytes = 0;
+   } // clear
+
+   /************************************************************************
+    * getEvictions - This method returns the number of entries evicted to
+    *       stay within the bounds.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public synchronized long getEvictions ()
+   {
+      return evictions;
+   } // getEvictions
+
+   /************************************************************************
+    * getHits - This method returns the number of lookups found in the
+    *       cache.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public synchronized long getHits ()
+   {
+      return hits;
+   } // getHits
+
+   /************************************************************************
+    * getInvalidations - This method returns the number of entries dropped
+    *       because the dictionary changed.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public synchronized long getInvalidations ()
+   {
+      return invalidations;
+   } // getInvalidations
+
+   /************************************************************************
+    * getMisses - This method returns the number of lookups that had to
+    *       solve the board.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public synchronized long getMisses ()
+   {
+      return misses;
+   } // getMisses
+
+   /************************************************************************
+    * size - This method returns the number of entries in the cache.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public synchronized int size ()
+   {
+      return entries.size ();
+   } // size
+
+   /************************************************************************
+    * toString - This method provides a string representation of the cache
+    *       counters.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public synchronized String toString ()
+   {
+      return "SolutionCache: " + entries.size () + " entries, " + bytes
+            + " bytes, " + hits + " hits, " + misses + " misses, "
+            + evictions + " evictions, " + invalidations + " invalidations";
+   } // toString
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * solve - This method returns the solution of the board for the words
+    *       of the given snapshot, whose word graph and version always
+    *       belong together. A result for an older version than the cache's
+    *       entries is not kept.
+    *
+    * @return SolveResult
+    * @param Board, DictionarySnapshot
+    ************************************************************************/
+   private SolveResult solve (Board board, DictionarySnapshot words)
+   {
+      SolveResult result = null;
+      PackedBoard key = null;
+      long version = words.getVersion ();
+
+      if (isPackable (board))
+      {
+         key = PackedBoard.of (board).canonical ();
+         result = lookup (key, version);
+      }
+
+      if (result == null)
+      {
+         result = BoardSolver.forThread (words.getWordGraph ()).solve (board);
+
+         if (key != null)
+         {
+            store (key, version, result);
+         }
+      }
+      return result;
+   } // solve
+
+   /************************************************************************
+    * isPackable - This method returns true if every cell of the board is
+    *       'a' to 'z', so that its packed board stands for it exactly.
+    *
+    * @return boolean
+    * @param Board
+    ************************************************************************/
+   private static boolean isPackable (Board board)
+   {
+      char[] cells = board.getCells ();
+      boolean packable = true;
+
+      for (int cell = 0; cell < cells.length && packable; cell++)
+      {
+         packable = cells[cell] >= 'a' && cells[cell] <= 'z';
+      }
+      return packable;
+   } // isPackable
+
+   /************************************************************************
+    * lookup - This method returns the cached result for the key, or null.
+    *       The entries are dropped if they belong to an older version, and
+    *       are not used for an older version than theirs.
+    *
+    * @return SolveResult
+    * @param PackedBoard, long
+    ************************************************************************/
+   private synchronized SolveResult lookup (PackedBoard key, long version)
+   {
+      if (version > entriesVersion)
+      {
+         invalidations += entries.size ();
+         clear ();
+         entriesVersion = version;
+      }
+
+      SolveResult result = (version == entriesVersion) ? entries.get (key)
+            : null;
+
+      if (result != null)
+      {
+         hits++;
+      }
+      else
+      {
+         misses++;
+      }
+      return result;
+   } // lookup
+
+   /************************************************************************
+    * store - This method adds a result to the cache and evicts the least
+    *       recently used entries until the cache is within its bounds.
+    *
+    * @return none
+    * @param PackedBoard, long, SolveResult
+    ************************************************************************/
+   private synchronized void store (PackedBoard key, long version,
+         SolveResult result)
+   {
+      if (version == entriesVersion)
+      {
+         SolveResult old = entries.put (key, result);
+
+         if (old != null)
+         {
+            bytes -= entryBytes (old);
+         }
+         bytes += entryBytes (result);
+
+         Iterator<Map.Entry<PackedBoard, SolveResult>> eldest =
+               entries.entrySet ().iterator ();
+
+         while ((entries.size () > maxEntries || bytes > maxBytes)
+               && entries.size () > 1)
+         {
+            bytes -= entryBytes (eldest.next ().getValue ());
+            eldest.remove ();
+            evictions++;
+         }
+      }
+   } // store
+
+   /************************************************************************
+    * entryBytes - This method estimates the memory used by an entry.
+    *
+    * @return long
+    * @param SolveResult
+    ************************************************************************/
+   private static long entryBytes (SolveResult result)
+   {
+      return ENTRY_OVERHEAD_BYTES + 4L * result.getWordCount ();
+   } // entryBytes
+
+} // SolutionCache
@@ -0,0 +1,130 @@
+package model;
+
+import java.util.Arrays;
+
+import utilities.StringSet;
+import utilities.WordGraph;
+
+/***************************************************************************
+ * SolveResult - This class holds the words found on one board in a compact
+ *       form: the ordinals of the words in the dictionary's word graph, in
+ *       increasing (alphabetical) order, and their total score. The words
+ *       themselves are only looked up when they are asked for.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class SolveResult
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final int[] ordinals;
+   private final int score;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * SolveResult - This method constructs a SolveResult from the sorted
+    *       ordinals of the words found and their total score. The array is
+    *       kept, not copied.
+    *
+    * @param int[], int
+    ************************************************************************/
+   SolveResult (int[] ordinals, int score)
+   {
+      this.ordinals = ordinals;
+      this.score = score;
+   } // SolveResult
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getOrdinal - This method returns the ordinal of the word at the given
+    *       index.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   public int getOrdinal (int index)
+   {
+      return ordinals[index];
+   } // getOrdinal
+
+   /************************************************************************
+    * getOrdinals - This method returns a copy of the ordinals of the words.
+    *
+    * @return int[]
+    * @param none
+    ************************************************************************/
+   public int[] getOrdinals ()
+   {
+      return Arrays.copyOf (ordinals, ordinals.length);
+   } // getOrdinals
+
+   /************************************************************************
+    * getScore - This method returns the total score of the words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getScore ()
+   {
+      return score;
+   } // getScore
+
+   /************************************************************************
+    * getWordCount - This method returns the number of words found.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getWordCount ()
+   {
+      return ordinals.length;
+   } // getWordCount
+
+   /************************************************************************
+    * toStringSet - This method returns the words as a StringSet, looking
+    *       them up in the word graph the board was solved with.
+    *
+    * @return StringSet
+    * @param WordGraph
+    ************************************************************************/
+   public StringSet toStringSet (WordGraph graph)
+   {
+      StringSet words = new StringSet ();
+
+      for (int ordinal : ordinals)
+      {
+         words.addWord (graph.wordAt (ordinal));
+      }
+      return words;
+   } // toStringSet
+
+   /************************************************************************
+    * toString - This method provides a string representation of the result.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      return ordinals.length + " words, score " + score;
+   } // toString
+
+} // SolveResult
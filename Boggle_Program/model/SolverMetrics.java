@@ -0,0 +1,166 @@
+package model;
+
+import java.util.Arrays;
+
+/***************************************************************************
+ * SolverMetrics - This class counts the boards a BoardSolver has solved
+ *       with each strategy, how long they took and how many words they
+ *       found, and remembers which strategy the last solve used. The
+ *       strategies are BoardSolver.BOARD_DRIVEN and BoardSolver.WORD_DRIVEN.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class SolverMetrics
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final String[] STRATEGY_NAMES = { "automatic",
+         "board-driven", "word-driven" };
+
+   /*
+    * attributes*************
+    */
+
+   private final long[] solves = new long[STRATEGY_NAMES.length];
+   private final long[] nanos = new long[STRATEGY_NAMES.length];
+   private final long[] words = new long[STRATEGY_NAMES.length];
+   private int lastStrategy = BoardSolver.AUTOMATIC;
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getLastStrategy - This method returns the strategy of the last solve,
+    *       or BoardSolver.AUTOMATIC if there has been none.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getLastStrategy ()
+   {
+      return lastStrategy;
+   } // getLastStrategy
+
+   /************************************************************************
+    * getNanos - This method returns the total time, in nanoseconds, of the
+    *       solves that used the given strategy.
+    *
+    * @return long
+    * @param int
+    ************************************************************************/
+   public long getNanos (int strategy)
+   {
+      return nanos[strategy];
+   } // getNanos
+
+   /************************************************************************
+    * getSolveCount - This method returns the number of solves that used
+    *       the given strategy.
+    *
+    * @return long
+    * @param int
+    ************************************************************************/
+   public long getSolveCount (int strategy)
+   {
+      return solves[strategy];
+   } // getSolveCount
+
+   /************************************************************************
+    * getWordCount - This method returns the number of words found by the
+    *       solves that used the given strategy.
+    *
+    * @return long
+    * @param int
+    ************************************************************************/
+   public long getWordCount (int strategy)
+   {
+      return words[strategy];
+   } // getWordCount
+
+   /************************************************************************
+    * reset - This method sets all the counts back to zero.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   public void reset ()
+   {
+      Arrays.fill (solves, 0);
+      Arrays.fill (nanos, 0);
+      Arrays.fill (words, 0);
+      lastStrategy = BoardSolver.AUTOMATIC;
+   } // reset
+
+   /************************************************************************
+    * strategyName - This method returns the name of a strategy.
+    *
+    * @return String
+    * @param int
+    ************************************************************************/
+   public static String strategyName (int strategy)
+   {
+      return STRATEGY_NAMES[strategy];
+   } // strategyName
+
+   /************************************************************************
+    * toString - This method provides a string representation of the
+    *       metrics, with the number of solves, the average time and the
+    *       average number of words of each strategy used.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      StringBuffer str = new StringBuffer ();
+
+      for (int strategy = BoardSolver.BOARD_DRIVEN;
+            strategy < STRATEGY_NAMES.length; strategy++)
+      {
+         if (solves[strategy] > 0)
+         {
+            str.append ((str.length () == 0) ? "" : ", ");
+            str.append (String.format ("%s %d solves %.1f us %.1f words",
+                  STRATEGY_NAMES[strategy], solves[strategy],
+                  nanos[strategy] / 1e3 / solves[strategy],
+                  (double) words[strategy] / solves[strategy]));
+         }
+      }
+      str.append ((str.length () == 0) ? "no solves" : "");
+      str.append (", last " + STRATEGY_NAMES[lastStrategy]);
+      return str.toString ();
+   } // toString
+
+   /*
+    * package methods*****************
+    */
+
+   /************************************************************************
+    * record - This method counts a solve with the given strategy, time and
+    *       number of words found.
+    *
+    * @return none
+    * @param int, long, int
+    ************************************************************************/
+   void record (int strategy, long elapsedNanos, int wordCount)
+   {
+      solves[strategy]++;
+      nanos[strategy] += elapsedNanos;
+      words[strategy] += wordCount;
+      lastStrategy = strategy;
+   } // record
+
+} // SolverMetrics
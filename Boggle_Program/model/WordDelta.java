@@ -0,0 +1,160 @@
+package model;
+
+import java.util.Arrays;
+
+import utilities.StringSet;
+import utilities.WordGraph;
+
+/***************************************************************************
+ * WordDelta - This class holds the change in the words on a board after a
+ *       cell was changed: the ordinals of the words that were added and
+ *       removed, in alphabetical order, and the change in the total score.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class WordDelta
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final int[] added;
+   private final int[] removed;
+   private final int scoreChange;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * WordDelta - This method constructs a WordDelta from the sorted
+    *       ordinals of the words added and removed. The arrays are kept,
+    *       not copied.
+    *
+    * @param int[], int[], int
+    ************************************************************************/
+   WordDelta (int[] added, int[] removed, int scoreChange)
+   {
+      this.added = added;
+      this.removed = removed;
+      this.scoreChange = scoreChange;
+   } // WordDelta
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getAdded - This method returns a copy of the ordinals of the words
+    *       that are now on the board.
+    *
+    * @return int[]
+    * @param none
+    ************************************************************************/
+   public int[] getAdded ()
+   {
+      return Arrays.copyOf (added, added.length);
+   } // getAdded
+
+   /************************************************************************
+    * getAddedWords - This method returns the words that are now on the
+    *       board, looking them up in the word graph.
+    *
+    * @return StringSet
+    * @param WordGraph
+    ************************************************************************/
+   public StringSet getAddedWords (WordGraph graph)
+   {
+      return toStringSet (added, graph);
+   } // getAddedWords
+
+   /************************************************************************
+    * getRemoved - This method returns a copy of the ordinals of the words
+    *       that are no longer on the board.
+    *
+    * @return int[]
+    * @param none
+    ************************************************************************/
+   public int[] getRemoved ()
+   {
+      return Arrays.copyOf (removed, removed.length);
+   } // getRemoved
+
+   /************************************************************************
+    * getRemovedWords - This method returns the words that are no longer on
+    *       the board, looking them up in the word graph.
+    *
+    * @return StringSet
+    * @param WordGraph
+    ************************************************************************/
+   public StringSet getRemovedWords (WordGraph graph)
+   {
+      return toStringSet (removed, graph);
+   } // getRemovedWords
+
+   /************************************************************************
+    * getScoreChange - This method returns the change in the total score.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getScoreChange ()
+   {
+      return scoreChange;
+   } // getScoreChange
+
+   /************************************************************************
+    * isEmpty - This method returns true if no words were added or removed.
+    *
+    * @return boolean
+    * @param none
+    ************************************************************************/
+   public boolean isEmpty ()
+   {
+      return added.length == 0 && removed.length == 0;
+   } // isEmpty
+
+   /************************************************************************
+    * toString - This method provides a string representation of the delta.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      return "+" + added.length + " words, -" + removed.length
+            + " words, score " + ((scoreChange >= 0) ? "+" : "") + scoreChange;
+   } // toString
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * toStringSet - This method returns the words with the given ordinals.
+    *
+    * @return StringSet
+    * @param int[], WordGraph
+    ************************************************************************/
+   private static StringSet toStringSet (int[] ordinals, WordGraph graph)
+   {
+      StringSet words = new StringSet ();
+
+      for (int ordinal : ordinals)
+      {
+         words.addWord (graph.wordAt (ordinal));
+      }
+      return words;
+   } // toStringSet
+
+} // WordDelta
@@ -0,0 +1,182 @@
+package model;
+
+import java.util.Arrays;
+
+/***************************************************************************
+ * WordStats - This class holds the number of words on a board, their total
+ *       score, how many words there are of each length and which letters
+ *       start them, without the words themselves. BoardSolver.count fills
+ *       in a WordStats that the caller passes in, so a loop that reuses
+ *       one WordStats for every board allocates nothing.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class WordStats
+{
+
+   /*
+    * attributes*************
+    */
+
+   private final int[] lengthCounts = new int[Board.MAX_CELLS + 1];
+   private int wordCount = 0;
+   private int score = 0;
+   private int maxLength = 0;
+   private int startLetters = 0;   // bit per letter starting a word
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * WordStats - This method constructs an empty WordStats.
+    *
+    * @param none
+    ************************************************************************/
+   public WordStats ()
+   {
+   } // WordStats
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getLengthCount - This method returns the number of words of the given
+    *       length.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   public int getLengthCount (int length)
+   {
+      return (length >= 0 && length < lengthCounts.length)
+            ? lengthCounts[length] : 0;
+   } // getLengthCount
+
+   /************************************************************************
+    * getMaxLength - This method returns the length of the longest word, or
+    *       0 if there are no words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getMaxLength ()
+   {
+      return maxLength;
+   } // getMaxLength
+
+   /************************************************************************
+    * getScore - This method returns the total score of the words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getScore ()
+   {
+      return score;
+   } // getScore
+
+   /************************************************************************
+    * getStartLetterCount - This method returns the number of different
+    *       letters the words start with.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getStartLetterCount ()
+   {
+      return Integer.bitCount (startLetters);
+   } // getStartLetterCount
+
+   /************************************************************************
+    * getStartLetters - This method returns the letters the words start
+    *       with, as a mask with bit 0 for 'a' up to bit 25 for 'z'.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getStartLetters ()
+   {
+      return startLetters;
+   } // getStartLetters
+
+   /************************************************************************
+    * getWordCount - This method returns the number of words.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int getWordCount ()
+   {
+      return wordCount;
+   } // getWordCount
+
+   /************************************************************************
+    * toString - This method provides a string representation of the
+    *       statistics, with the number of words of each length from 3 up
+    *       to the longest.
+    *
+    * @return String
+    * @param none
+    ************************************************************************/
+   public String toString ()
+   {
+      StringBuffer str = new StringBuffer ();
+
+      str.append (wordCount + " words, score " + score);
+
+      for (int length = Scoring.MIN_WORD_LENGTH; length <= maxLength; length++)
+      {
+         str.append ((length == Scoring.MIN_WORD_LENGTH) ? ", by length "
+               : " ");
+         str.append (length + ":" + lengthCounts[length]);
+      }
+      return str.toString ();
+   } // toString
+
+   /*
+    * package methods*****************
+    */
+
+   /************************************************************************
+    * addWord - This method counts a word of the given length starting
+    *       with the given letter.
+    *
+    * @return none
+    * @param int, char
+    ************************************************************************/
+   void addWord (int length, char firstLetter)
+   {
+      startLetters |= 1 << (firstLetter - 'a');
+      lengthCounts[length]++;
+      wordCount++;
+      score += Scoring.wordScore (length);
+      maxLength = Math.max (maxLength, length);
+   } // addWord
+
+   /************************************************************************
+    * clear - This method resets the statistics to no words.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   void clear ()
+   {
+      Arrays.fill (lengthCounts, 0, maxLength + 1, 0);
+      wordCount = 0;
+      score = 0;
+      maxLength = 0;
+      startLetters = 0;
+   } // clear
+
+} // WordStats
@@ -0,0 +1,83 @@
+package utilities;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/***************************************************************************
+ * DictionaryCompiler - This class compiles a word list, one word per line,
+ *       into a word graph image that a Dictionary can map straight into
+ *       memory instead of reading and sorting the list every time the game
+ *       starts. Words with characters other than 'a' to 'z' cannot go in
+ *       the image and are counted as skipped. Run with the word list and
+ *       the image file names:
+ *
+ *       java utilities.DictionaryCompiler words.txt words.dawg
+ *       java boggle.Boggle words.dawg
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class DictionaryCompiler
+{
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * main - This method compiles the word list named by the first argument
+    *       into the image named by the second.
+    *
+    * @return none
+    * @param String[]
+    ************************************************************************/
+   public static void main (String[] args)
+   {
+      if (args.length != 2)
+      {
+         System.err.println ("Usage: java utilities.DictionaryCompiler"
+               + " wordList imageFile");
+         System.exit (1);
+      }
+
+      ArrayList<String> words = new TextIO ().readWordList (args[0]);
+      int skipped = 0;
+
+      Collections.sort (words);
+
+      for (String word : words)
+      {
+         if (!WordGraph.isLowerCase (word))
+         {
+            skipped++;
+         }
+      }
+
+      try
+      {
+         WordGraph graph = new WordGraph (words);
+
+         graph.write (args[1]);
+         System.out.println (args[1] + ": " + graph.size () + " words ("
+               + skipped + " skipped), " + graph.nodeCount () + " nodes, "
+               + graph.edgeCount () + " edges, " + graph.memoryBytes ()
+               + " bytes");
+      }
+      catch (IOException e)
+      {
+         System.err.println ("Cannot write " + args[1] + ": "
+               + e.getMessage ());
+         System.exit (1);
+      }
+   } // main
+
+} // DictionaryCompiler
@@ -104,15 +104,27 @@ public class GridPosition
 
 
    /************************************************************************
-    * validPosition.
+    * validPosition - This method determines if the position is on a 4x4 
+    *       board.
     * 
     * @return boolean
     * @param none
     ************************************************************************/
    public boolean validPosition ()
    {
-      return (x >= 0 && x <= 3 && y >= 0 && y <= 3);
+      return validPosition (4, 4);
+   } // validPosition
+
+   /************************************************************************
+    * validPosition - This method determines if the position is on a board
+    *       with the given number of rows and columns.
+    * 
+    * @return boolean
+    * @param int, int
+    ************************************************************************/
+   public boolean validPosition (int rows, int columns)
+   {
+      return (x >= 0 && x < rows && y >= 0 && y < columns);
    } // validPosition
    
 } // GridPosition
-
@@ -0,0 +1,193 @@
+package utilities;
+
+/***************************************************************************
+ * LatencyHistogram - This class counts timings (in nanoseconds) in a fixed
+ *       set of buckets so that percentiles can be reported without keeping
+ *       every timing. Each power of two is split into 8 buckets, so a
+ *       reported percentile is within about 12% of the real value.
+ *       Histograms from several threads can be merged into one.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class LatencyHistogram
+{
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int SUB_BUCKET_BITS = 3;
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+   /*
+    * attributes*************
+    */
+
+   private long[] counts = new long[64 * SUB_BUCKETS];
+   private long count = 0;
+   private long total = 0;
+   private long max = 0;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * LatencyHistogram - This method constructs an empty histogram.
+    *
+    * @param none
+    ************************************************************************/
+   public LatencyHistogram ()
+   {
+   } // LatencyHistogram
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * getCount - This method returns the number of timings recorded.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getCount ()
+   {
+      return count;
+   } // getCount
+
+   /************************************************************************
+    * getMax - This method returns the longest timing recorded.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long getMax ()
+   {
+      return max;
+   } // getMax
+
+   /************************************************************************
+    * getMean - This method returns the average timing recorded.
+    *
+    * @return double
+    * @param none
+    ************************************************************************/
+   public double getMean ()
+   {
+      return (count > 0) ? (double) total / count : 0;
+   } // getMean
+
+   /************************************************************************
+    * merge - This method adds the timings of another histogram to this one.
+    *
+    * @return none
+    * @param LatencyHistogram
+    ************************************************************************/
+   public void merge (LatencyHistogram other)
+   {
+      for (int i = 0; i < counts.length; i++)
+      {
+         counts[i] += other.counts[i];
+      }
+      count += other.count;
+      total += other.total;
+      max = Math.max (max, other.max);
+   } // merge
+
+   /************************************************************************
+    * percentile - This method returns the timing below which the given
+    *       percentage (0 to 100) of the timings fall. The upper edge of the
+    *       bucket is returned, capped at the longest timing.
+    *
+    * @return long
+    * @param double
+    ************************************************************************/
+   public long percentile (double percent)
+   {
+      long value = 0;
+      long wanted = (long) Math.ceil (count * percent / 100.0);
+      long seen = 0;
+
+      for (int i = 0; i < counts.length && count > 0; i++)
+      {
+         seen += counts[i];
+
+         if (seen >= wanted && counts[i] > 0)
+         {
+            value = Math.min (bucketLimit (i), max);
+            break;
+         }
+      }
+      return value;
+   } // percentile
+
+   /************************************************************************
+    * record - This method adds a timing to the histogram.
+    *
+    * @return none
+    * @param long
+    ************************************************************************/
+   public void record (long nanos)
+   {
+      long value = Math.max (nanos, 0);
+      counts[bucket (value)]++;
+      count++;
+      total += value;
+      max = Math.max (max, value);
+   } // record
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * bucket - This method returns the bucket a timing falls in.
+    *
+    * @return int
+    * @param long
+    ************************************************************************/
+   private static int bucket (long value)
+   {
+      int index = (int) value;
+
+      if (value >= SUB_BUCKETS)
+      {
+         int power = 63 - Long.numberOfLeadingZeros (value);
+         int sub = (int) (value >>> (power - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+         index = (power - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+      }
+      return index;
+   } // bucket
+
+   /************************************************************************
+    * bucketLimit - This method returns the largest timing that falls in
+    *       the given bucket.
+    *
+    * @return long
+    * @param int
+    ************************************************************************/
+   private static long bucketLimit (int index)
+   {
+      long limit = index;
+
+      if (index >= SUB_BUCKETS)
+      {
+         int power = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+         long sub = index % SUB_BUCKETS;
+         long width = 1L << (power - SUB_BUCKET_BITS);
+         limit = (1L << power) + (sub + 1) * width - 1;
+      }
+      return limit;
+   } // bucketLimit
+
+} // LatencyHistogram
@@ -4,10 +4,15 @@ import java.io.BufferedWriter;
 import java.io.InputStreamReader;
 import java.io.IOException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
@@ -27,6 +32,9 @@ import java.util.regex.Matcher;
 * Modifications: 9/30/2012 - added public methods for easier user interface
 *                            and added methods to read and writes words
 *                            to/from a file.
+*                10/18/2026 - added a method to replace a word list file
+*                             without leaving it half written.
+*                10/18/2026 - word lists are read and replaced as UTF-8.
 ***************************************************************************/
 
 public class TextIO
@@ -173,8 +181,8 @@ public class TextIO
    } // prompt
 
    /************************************************************************
-   * readWordList - This method reads a text file that contains a word list
-   *       and returns the words in an ArrayList.
+   * readWordList - This method reads a UTF-8 text file that contains a
+   *       word list and returns the words in an ArrayList.
    *
    * @return ArrayList<String>
    * @param String
@@ -185,7 +193,8 @@ public class TextIO
         
       try
       {
-         BufferedReader reader = new BufferedReader (new FileReader (fileName));      
+         BufferedReader reader = new BufferedReader (new InputStreamReader (
+               new FileInputStream (fileName), "UTF-8"));
          String text = null;
             
          while ((text = reader.readLine()) != null)
@@ -210,6 +219,43 @@ public class TextIO
     } // readWordList
     
 
+   /************************************************************************
+   * replaceWordList - This method writes a word list as UTF-8 to a new
+   *       file next to the named one and forces it to the disk, then moves
+   *       it over the named file, so a crash leaves either the old list or
+   *       the new one.
+   *
+   * @return none
+   * @param String, Iterable<String>
+   ************************************************************************/
+   public void replaceWordList (String fileName, Iterable<String> wordList)
+         throws IOException
+   {
+      Path file = Paths.get (fileName);
+      Path newFile = Paths.get (fileName + ".new");
+      FileOutputStream stream = new FileOutputStream (newFile.toFile ());
+
+      try
+      {
+         BufferedWriter writer = new BufferedWriter (new OutputStreamWriter (
+               stream, "UTF-8"));
+
+         for (String string : wordList)
+         {
+            writer.write (string);
+            writer.newLine();
+         }
+         writer.flush();
+         stream.getFD().sync();
+      }
+      finally
+      {
+         stream.close();
+      }
+      Files.move (newFile, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+   } // replaceWordList
+
    /************************************************************************
    * writeWordList - This method reads a text file and returns a StringBuffer
    *
@@ -0,0 +1,1420 @@
+package utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/***************************************************************************
+ * WordGraph - This class implements a directed acyclic word graph (DAWG):
+ *       a prefix tree of lower case words in which every set of nodes with
+ *       the same words below them is kept only once, so common endings
+ *       ("-ing", "-ness") are shared as well as common beginnings. It is
+ *       kept in flat int arrays: each node has a mask of the letters it has
+ *       edges for and the index of its first edge, and the edges out of a
+ *       node are stored together in letter order, so the edge for a letter
+ *       is found by counting the mask bits below it.
+ *
+ *       Each node also knows how many words start at it. That gives every
+ *       word an ordinal, its position in alphabetical order, which is found
+ *       from the word, and the word from the ordinal, by one walk down the
+ *       graph. A search that walks the graph letter by letter keeps the
+ *       number of words before its prefix, adding wordsBefore at each step;
+ *       where a word ends, that number is the word's ordinal. Each edge
+ *       keeps the number of its node's words before it, so a step costs the
+ *       same as following the edge. A node is shared by many prefixes, so
+ *       it is the prefix's ordinal, not the node, that tells prefixes apart.
+ *       Each node also knows the length of the longest word below it.
+ *
+ *       The graph does not change after it is built; it is built from words
+ *       in alphabetical order by minimizing each branch as soon as no later
+ *       word can add to it. Words containing characters other than 'a' to
+ *       'z' are not stored.
+ *
+ *       withChanges makes a graph with some words added and removed without
+ *       building it again. The new graph shares this graph's arrays and
+ *       copies only the nodes on the paths to the changed words, numbered
+ *       after this graph's nodes and kept in arrays of its own. The copies
+ *       are not minimized, so a graph that has collected many changes
+ *       should be built again from its words.
+ *
+ *       A graph can be written to a file as an image of its arrays and
+ *       loaded back by mapping the file into memory, so loading does no
+ *       parsing and makes no objects per word, and programs using the same
+ *       image share its pages. The image starts with a header:
+ *
+ *       - the magic number and the format version;
+ *       - the number of nodes and edges, the root and the number of words;
+ *       - a CRC-32 checksum of everything after the header.
+ *
+ *       The child masks, first edges, word counts, suffix lengths, edge
+ *       targets and edge word counts follow as little-endian ints, then the
+ *       word-end bits as longs, so a mapped graph is searched with nothing
+ *       worked out on the heap. Images of format 1 lack the suffix lengths
+ *       and edge word counts; they still load, and those are worked out
+ *       when they are.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class WordGraph implements Iterable<String>
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final int NO_NODE = -1;
+   public static final int FORMAT_VERSION = 2;
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final int ALPHABET_SIZE = 26;
+   private static final int HASH_MULTIPLIER = 0x9E3779B9;
+   private static final int MAGIC = 0x47574742;   // "BGWG"
+   private static final int HEADER_SIZE = 32;
+   private static final int OLD_FORMAT_VERSION = 1;   // no node sums
+
+   /*
+    * attributes*************
+    */
+
+   private IntBuffer childMasks;    // bit per letter with an edge
+   private IntBuffer firstEdges;    // index of the node's first edge
+   private IntBuffer wordCounts;    // words starting at the node
+   private IntBuffer suffixLengths; // letters of the longest word below
+   private LongBuffer finalBits;    // bit per node ending a word
+   private IntBuffer edgeTargets;
+   private IntBuffer edgeWords;     // node's words before the edge's
+   private int nodeCount = 0;
+   private int edgeCount = 0;
+   private int baseNodeCount = 0;   // nodes in the buffers
+   private int baseEdgeCount = 0;
+   private int root;
+
+   // Nodes from baseNodeCount up: all of them while building, and the
+   // copies made by withChanges
+   private int[] builtMasks = new int[64];
+   private int[] builtFirstEdges = new int[64];
+   private int[] builtCounts = new int[64];
+   private int[] builtLengths = new int[64];
+   private long[] builtFinals = new long[1];
+   private int[] builtTargets = new int[64];
+   private int[] builtEdgeWords = new int[64];
+
+   // Only used while building
+   private int[] register;                  // open addressing, node + 1
+   private int[] pathMasks;                 // unfinished node per depth
+   private int[][] pathTargets;
+   private boolean[] pathFinals;
+   private String[] changedWords;           // sorted, for withChanges
+   private boolean[] changedAdded;
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * WordGraph - This method constructs a WordGraph holding the given
+    *       words, which must be in alphabetical order. Repeated words and
+    *       words with characters other than 'a' to 'z' are skipped.
+    *
+    * @param Iterable<String>
+    ************************************************************************/
+   public WordGraph (Iterable<String> sortedWords)
+   {
+      register = new int[64];
+      pathMasks = new int[16];
+      pathTargets = new int[16][ALPHABET_SIZE];
+      pathFinals = new boolean[16];
+
+      String previous = "";
+
+      for (String word : sortedWords)
+      {
+         if (isLowerCase (word))
+         {
+            int compare = word.compareTo (previous);
+
+            if (compare < 0)
+            {
+               throw new IllegalArgumentException ("Words out of order: "
+                     + previous + ", " + word);
+            }
+
+            if (compare > 0)
+            {
+               add (previous, word);
+               previous = word;
+            }
+         }
+      }
+      finishBranch (previous, 0);
+      root = finishNode (0);
+
+      register = null;
+      pathMasks = null;
+      pathTargets = null;
+      pathFinals = null;
+      wrapArrays ();
+   } // WordGraph
+
+   /************************************************************************
+    * WordGraph - This method constructs a WordGraph sharing the arrays of
+    *       the given graph, with the sorted changed words added where the
+    *       flags are true and removed where they are false.
+    *
+    * @param WordGraph, String[], boolean[]
+    ************************************************************************/
+   private WordGraph (WordGraph base, String[] words, boolean[] added)
+   {
+      childMasks = base.childMasks;
+      firstEdges = base.firstEdges;
+      wordCounts = base.wordCounts;
+      suffixLengths = base.suffixLengths;
+      finalBits = base.finalBits;
+      edgeTargets = base.edgeTargets;
+      edgeWords = base.edgeWords;
+      nodeCount = base.nodeCount;
+      edgeCount = base.edgeCount;
+      baseNodeCount = base.baseNodeCount;
+      baseEdgeCount = base.baseEdgeCount;
+
+      if (nodeCount > baseNodeCount)
+      {
+         // The base's copies are kept, and new ones are added after them
+         builtMasks = base.builtMasks;
+         builtFirstEdges = base.builtFirstEdges;
+         builtCounts = base.builtCounts;
+         builtLengths = base.builtLengths;
+         builtFinals = base.builtFinals;
+         builtTargets = base.builtTargets;
+         builtEdgeWords = base.builtEdgeWords;
+      }
+
+      // Each word copies at most the nodes on its path
+      int room = 0;
+
+      for (String word : words)
+      {
+         room += word.length () + 1;
+      }
+      reserve (room, ALPHABET_SIZE * room);
+
+      changedWords = words;
+      changedAdded = added;
+      root = change (base.root, 0, 0, words.length);
+
+      if (root == NO_NODE)
+      {
+         root = newNode (0, new int[ALPHABET_SIZE], false);
+      }
+      changedWords = null;
+      changedAdded = null;
+   } // WordGraph
+
+   /************************************************************************
+    * WordGraph - This method constructs a WordGraph over an image, after
+    *       checking its header and checksum.
+    *
+    * @param ByteBuffer
+    ************************************************************************/
+   private WordGraph (ByteBuffer image) throws IOException
+   {
+      image.order (ByteOrder.LITTLE_ENDIAN);
+
+      if (image.capacity () < HEADER_SIZE || image.getInt (0) != MAGIC)
+      {
+         throw new IOException ("Not a word graph image");
+      }
+
+      int version = image.getInt (4);
+
+      if (version != FORMAT_VERSION && version != OLD_FORMAT_VERSION)
+      {
+         throw new IOException ("Word graph image format " + version
+               + ", expected " + FORMAT_VERSION);
+      }
+      nodeCount = image.getInt (8);
+      edgeCount = image.getInt (12);
+      root = image.getInt (16);
+
+      if (nodeCount < 1 || edgeCount < 0 || root < 0 || root >= nodeCount
+            || image.capacity () != imageSize (nodeCount, edgeCount,
+                  version))
+      {
+         throw new IOException ("Word graph image is truncated");
+      }
+      baseNodeCount = nodeCount;
+      baseEdgeCount = edgeCount;
+
+      CRC32 checksum = new CRC32 ();
+      checksum.update (section (image, HEADER_SIZE,
+            image.capacity () - HEADER_SIZE));
+
+      if (checksum.getValue () != image.getLong (24))
+      {
+         throw new IOException ("Word graph image checksum does not match");
+      }
+
+      int offset = HEADER_SIZE;
+
+      childMasks = section (image, offset, 4 * nodeCount).asIntBuffer ();
+      offset += 4 * nodeCount;
+      firstEdges = section (image, offset, 4 * nodeCount).asIntBuffer ();
+      offset += 4 * nodeCount;
+      wordCounts = section (image, offset, 4 * nodeCount).asIntBuffer ();
+      offset += 4 * nodeCount;
+
+      if (version != OLD_FORMAT_VERSION)
+      {
+         suffixLengths = section (image, offset, 4 * nodeCount)
+               .asIntBuffer ();
+         offset += 4 * nodeCount;
+      }
+      edgeTargets = section (image, offset, 4 * edgeCount).asIntBuffer ();
+      offset += 4 * edgeCount;
+
+      if (version != OLD_FORMAT_VERSION)
+      {
+         edgeWords = section (image, offset, 4 * edgeCount).asIntBuffer ();
+      }
+      offset = finalBitsOffset (nodeCount, edgeCount, version);
+      finalBits = section (image, offset, image.capacity () - offset)
+            .asLongBuffer ();
+
+      if (wordCounts.get (root) != image.getInt (20))
+      {
+         throw new IOException ("Word graph image has the wrong word count");
+      }
+
+      if (version == OLD_FORMAT_VERSION)
+      {
+         findNodeSums ();
+      }
+   } // WordGraph
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * child - This method returns the node reached by following the given
+    *       letter from the given node, or NO_NODE if no word in the graph
+    *       starts with that prefix.
+    *
+    * @return int
+    * @param int, char
+    ************************************************************************/
+   public int child (int node, char letter)
+   {
+      int child = NO_NODE;
+      int index = letter - 'a';
+      int mask = childLetters (node);
+
+      if (index >= 0 && index < ALPHABET_SIZE && (mask & (1 << index)) != 0)
+      {
+         child = edgeTarget (firstEdge (node)
+               + Integer.bitCount (mask & ((1 << index) - 1)));
+      }
+      return child;
+   } // child
+
+   /************************************************************************
+    * childLetters - This method returns the letters that have an edge at
+    *       the given node, as a mask with bit 0 for 'a' up to bit 25 for
+    *       'z'.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   public int childLetters (int node)
+   {
+      return (node < baseNodeCount) ? childMasks.get (node)
+            : builtMasks[node - baseNodeCount];
+   } // childLetters
+
+   /************************************************************************
+    * contains - This method returns true if the word is in the graph.
+    *
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public boolean contains (String word)
+   {
+      int node = nodeFor (word);
+      return node != NO_NODE && isWord (node);
+   } // contains
+
+   /************************************************************************
+    * countBefore - This method returns the number of words that come
+    *       before the given string in alphabetical order. For a prefix that
+    *       is the ordinal of the first word starting with it, if there is
+    *       one, and the words with the prefix follow it. Any characters may
+    *       be given; one below 'a' sorts before every letter and one above
+    *       'z' after every letter.
+    *
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int countBefore (String prefix)
+   {
+      int count = 0;
+      int node = root;
+
+      for (int i = 0; i < prefix.length () && node != NO_NODE; i++)
+      {
+         int letter = prefix.charAt (i) - 'a';
+
+         if (letter < 0)
+         {
+            count += isWord (node) ? 1 : 0;
+            node = NO_NODE;
+         }
+         else if (letter >= ALPHABET_SIZE)
+         {
+            count += wordCount (node);
+            node = NO_NODE;
+         }
+         else
+         {
+            count += wordsBefore (node, letter);
+            node = child (node, prefix.charAt (i));
+         }
+      }
+      return count;
+   } // countBefore
+
+   /************************************************************************
+    * countWithPrefix - This method returns the number of words starting
+    *       with the given prefix.
+    *
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int countWithPrefix (String prefix)
+   {
+      int node = nodeFor (prefix);
+      return (node == NO_NODE) ? 0 : wordCount (node);
+   } // countWithPrefix
+
+   /************************************************************************
+    * edgeCount - This method returns the number of edges in the graph.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int edgeCount ()
+   {
+      return edgeCount;
+   } // edgeCount
+
+   /************************************************************************
+    * hasPrefix - This method returns true if some word in the graph starts
+    *       with the given prefix.
+    *
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public boolean hasPrefix (String prefix)
+   {
+      return countWithPrefix (prefix) > 0;
+   } // hasPrefix
+
+   /************************************************************************
+    * isImage - This method returns true if the named file starts like a
+    *       word graph image.
+    *
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public static boolean isImage (String fileName)
+   {
+      boolean image = false;
+
+      try
+      {
+         FileChannel channel = FileChannel.open (Paths.get (fileName),
+               StandardOpenOption.READ);
+
+         try
+         {
+            ByteBuffer magic = ByteBuffer.allocate (4)
+                  .order (ByteOrder.LITTLE_ENDIAN);
+
+            image = channel.read (magic) == 4 && magic.getInt (0) == MAGIC;
+         }
+         finally
+         {
+            channel.close ();
+         }
+      }
+      catch (IOException e)
+      {
+         // a file that cannot be read is not an image
+      }
+      return image;
+   } // isImage
+
+   /************************************************************************
+    * isLowerCase - This method returns true if a word is not empty and
+    *       only has the characters 'a' to 'z'.
+    *
+    * @return boolean
+    * @param String
+    ************************************************************************/
+   public static boolean isLowerCase (String word)
+   {
+      boolean lowerCase = word.length () > 0;
+
+      for (int i = 0; i < word.length () && lowerCase; i++)
+      {
+         char letter = word.charAt (i);
+         lowerCase = letter >= 'a' && letter <= 'z';
+      }
+      return lowerCase;
+   } // isLowerCase
+
+   /************************************************************************
+    * isWord - This method returns true if a word ends at the given node.
+    *
+    * @return boolean
+    * @param int
+    ************************************************************************/
+   public boolean isWord (int node)
+   {
+      int built = node - baseNodeCount;
+
+      return (built < 0) ? (finalBits.get (node >>> 6) & (1L << node)) != 0
+            : (builtFinals[built >>> 6] & (1L << built)) != 0;
+   } // isWord
+
+   /************************************************************************
+    * iterator - This method returns an iterator over the words in
+    *       alphabetical order.
+    *
+    * @return Iterator<String>
+    * @param none
+    ************************************************************************/
+   public Iterator<String> iterator ()
+   {
+      return iterator ("");
+   } // iterator
+
+   /************************************************************************
+    * iterator - This method returns an iterator over the words starting
+    *       with the given prefix, in alphabetical order.
+    *
+    * @return Iterator<String>
+    * @param String
+    ************************************************************************/
+   public Iterator<String> iterator (String prefix)
+   {
+      return new WordIterator (prefix, nodeFor (prefix));
+   } // iterator
+
+   /************************************************************************
+    * load - This method maps a word graph image file into memory and
+    *       returns the graph it holds. The file is only read as the graph
+    *       is used, apart from the checksum, and must not be changed while
+    *       the graph is in use; write replaces a file rather than changing
+    *       it.
+    *
+    * @return WordGraph
+    * @param String
+    ************************************************************************/
+   public static WordGraph load (String fileName) throws IOException
+   {
+      WordGraph graph;
+      FileChannel channel = FileChannel.open (Paths.get (fileName),
+            StandardOpenOption.READ);
+
+      try
+      {
+         graph = new WordGraph (channel.map (FileChannel.MapMode.READ_ONLY,
+               0, channel.size ()));
+      }
+      finally
+      {
+         channel.close ();
+      }
+      return graph;
+   } // load
+
+   /************************************************************************
+    * memoryBytes - This method returns the number of bytes used by the
+    *       graph's arrays, counting those shared with the graph it was made
+    *       from.
+    *
+    * @return long
+    * @param none
+    ************************************************************************/
+   public long memoryBytes ()
+   {
+      long bytes = 4L * (4 * baseNodeCount + 2 * baseEdgeCount)
+            + 8L * finalBits.capacity ();
+
+      if (nodeCount > baseNodeCount)
+      {
+         bytes += 4L * (4 * builtMasks.length + 2 * builtTargets.length)
+               + 8L * builtFinals.length;
+      }
+      return bytes;
+   } // memoryBytes
+
+   /************************************************************************
+    * nodeCount - This method returns the number of nodes in the graph.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int nodeCount ()
+   {
+      return nodeCount;
+   } // nodeCount
+
+   /************************************************************************
+    * nodeFor - This method returns the node reached by following the
+    *       letters of the prefix from the root, or NO_NODE if no word
+    *       starts with the prefix.
+    *
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int nodeFor (String prefix)
+   {
+      int node = root;
+
+      for (int i = 0; i < prefix.length () && node != NO_NODE; i++)
+      {
+         node = child (node, prefix.charAt (i));
+      }
+      return node;
+   } // nodeFor
+
+   /************************************************************************
+    * ordinal - This method returns the position of the word in the
+    *       alphabetical order of the words in the graph, or -1 if the word
+    *       is not in the graph.
+    *
+    * @return int
+    * @param String
+    ************************************************************************/
+   public int ordinal (String word)
+   {
+      return contains (word) ? countBefore (word) : -1;
+   } // ordinal
+
+   /************************************************************************
+    * root - This method returns the node of the empty prefix.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int root ()
+   {
+      return root;
+   } // root
+
+   /************************************************************************
+    * size - This method returns the number of words in the graph.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public int size ()
+   {
+      return wordCount (root);
+   } // size
+
+   /************************************************************************
+    * suffixLength - This method returns the number of letters the longest
+    *       word starting at the given node has after the node's prefix, so a
+    *       search for long words can give up on a prefix that cannot lead
+    *       to one.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   public int suffixLength (int node)
+   {
+      return (node < baseNodeCount) ? suffixLengths.get (node)
+            : builtLengths[node - baseNodeCount];
+   } // suffixLength
+
+   /************************************************************************
+    * wordAt - This method returns the word with the given ordinal.
+    *
+    * @return String
+    * @param int
+    ************************************************************************/
+   public String wordAt (int ordinal)
+   {
+      if (ordinal < 0 || ordinal >= size ())
+      {
+         throw new IllegalArgumentException ("No word " + ordinal + " in "
+               + size () + " words");
+      }
+
+      StringBuffer word = new StringBuffer ();
+      int node = root;
+      int rest = ordinal;
+
+      while (rest > 0 || !isWord (node))
+      {
+         rest -= isWord (node) ? 1 : 0;
+
+         int letters = childLetters (node);
+         int edge = firstEdge (node);
+
+         while (rest >= wordCount (edgeTarget (edge)))
+         {
+            rest -= wordCount (edgeTarget (edge));
+            letters &= letters - 1;
+            edge++;
+         }
+         word.append ((char) ('a' + Integer.numberOfTrailingZeros (letters)));
+         node = edgeTarget (edge);
+      }
+      return word.toString ();
+   } // wordAt
+
+   /************************************************************************
+    * wordCount - This method returns the number of words starting at the
+    *       given node, including the one ending there.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   public int wordCount (int node)
+   {
+      return (node < baseNodeCount) ? wordCounts.get (node)
+            : builtCounts[node - baseNodeCount];
+   } // wordCount
+
+   /************************************************************************
+    * wordsBefore - This method returns the number of words that start at
+    *       the given node and come before the ones continuing with the
+    *       given letter (0 for 'a'): the word ending at the node, if any,
+    *       and those continuing with a lower letter.
+    *
+    * @return int
+    * @param int, int
+    ************************************************************************/
+   public int wordsBefore (int node, int letter)
+   {
+      int mask = childLetters (node);
+      int edge = Integer.bitCount (mask & ((1 << letter) - 1));
+
+      // The first edge at or after the letter has the words before it
+      return (edge < Integer.bitCount (mask))
+            ? edgeWord (firstEdge (node) + edge) : wordCount (node);
+   } // wordsBefore
+
+   /************************************************************************
+    * withChanges - This method returns a graph of this graph's words with
+    *       the given words added and removed. Both arrays must be sorted,
+    *       hold only words from 'a' to 'z' and have no word in common. The
+    *       new graph shares this graph's arrays and copies only the nodes
+    *       on the paths to the changed words, so it takes time in the
+    *       number and length of those words, not the size of the graph.
+    *
+    * @return WordGraph
+    * @param String[], String[]
+    ************************************************************************/
+   public WordGraph withChanges (String[] addedWords, String[] removedWords)
+   {
+      String[] words = new String[addedWords.length + removedWords.length];
+      boolean[] added = new boolean[words.length];
+      int nextAdded = 0;
+      int nextRemoved = 0;
+
+      for (int i = 0; i < words.length; i++)
+      {
+         added[i] = nextRemoved == removedWords.length
+               || (nextAdded < addedWords.length && addedWords[nextAdded]
+                     .compareTo (removedWords[nextRemoved]) < 0);
+
+         if (added[i])
+         {
+            words[i] = addedWords[nextAdded];
+            nextAdded++;
+         }
+         else
+         {
+            words[i] = removedWords[nextRemoved];
+            nextRemoved++;
+         }
+
+         if (!isLowerCase (words[i])
+               || (i > 0 && words[i].compareTo (words[i - 1]) <= 0))
+         {
+            throw new IllegalArgumentException ("Changed words out of "
+                  + "order, repeated or not from a to z: " + words[i]);
+         }
+      }
+      return (words.length == 0) ? this : new WordGraph (this, words, added);
+   } // withChanges
+
+   /************************************************************************
+    * write - This method writes the graph to a file as an image that load
+    *       can map. The image is written to a new file that then replaces
+    *       the named one, so a graph mapped from the old file is not
+    *       changed under it. A graph made by withChanges is built again
+    *       from its words first, so the image is minimal.
+    *
+    * @return none
+    * @param String
+    ************************************************************************/
+   public void write (String fileName) throws IOException
+   {
+      if (nodeCount > baseNodeCount)
+      {
+         new WordGraph (this).writeImage (fileName);
+      }
+      else
+      {
+         writeImage (fileName);
+      }
+   } // write
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * add - This method adds a word that comes after the previous word.
+    *       The nodes of the previous word past the prefix they share can
+    *       get no more words, so they are finished; then nodes are started
+    *       for the rest of the new word.
+    *
+    * @return none
+    * @param String, String
+    ************************************************************************/
+   private void add (String previous, String word)
+   {
+      int common = 0;
+
+      while (common < previous.length () && common < word.length ()
+            && previous.charAt (common) == word.charAt (common))
+      {
+         common++;
+      }
+      finishBranch (previous, common);
+
+      if (word.length () >= pathMasks.length)
+      {
+         int depth = Math.max (word.length () + 1, 2 * pathMasks.length);
+
+         pathMasks = Arrays.copyOf (pathMasks, depth);
+         pathFinals = Arrays.copyOf (pathFinals, depth);
+         pathTargets = Arrays.copyOf (pathTargets, depth);
+
+         for (int i = 0; i < depth; i++)
+         {
+            if (pathTargets[i] == null)
+            {
+               pathTargets[i] = new int[ALPHABET_SIZE];
+            }
+         }
+      }
+
+      for (int depth = common + 1; depth <= word.length (); depth++)
+      {
+         pathMasks[depth - 1] |= 1 << (word.charAt (depth - 1) - 'a');
+         pathMasks[depth] = 0;
+         pathFinals[depth] = false;
+      }
+      pathFinals[word.length ()] = true;
+   } // add
+
+   /************************************************************************
+    * change - This method returns the node for the words below the given
+    *       node (none for NO_NODE) with the changed words from first up to
+    *       but not including last, which all start with the node's prefix
+    *       of the given depth. A node with no changes is returned as it is;
+    *       otherwise a copy with its children changed is added, or NO_NODE
+    *       is returned if no words are left below it.
+    *
+    * @return int
+    * @param int, int, int, int
+    ************************************************************************/
+   private int change (int node, int depth, int first, int last)
+   {
+      int changed = node;
+
+      if (first < last)
+      {
+         int letters = (node == NO_NODE) ? 0 : childLetters (node);
+         boolean isFinal = node != NO_NODE && isWord (node);
+         int mask = 0;
+         int[] targets = new int[ALPHABET_SIZE];
+         int next = first;
+
+         if (changedWords[next].length () == depth)
+         {
+            isFinal = changedAdded[next];
+            next++;
+         }
+
+         for (int letter = 0; letter < ALPHABET_SIZE; letter++)
+         {
+            int end = next;
+            int child = ((letters & (1 << letter)) != 0)
+                  ? child (node, (char) ('a' + letter)) : NO_NODE;
+
+            while (end < last
+                  && changedWords[end].charAt (depth) == 'a' + letter)
+            {
+               end++;
+            }
+            child = change (child, depth + 1, next, end);
+            next = end;
+
+            if (child != NO_NODE)
+            {
+               mask |= 1 << letter;
+               targets[letter] = child;
+            }
+         }
+         changed = (mask == 0 && !isFinal) ? NO_NODE
+               : newNode (mask, targets, isFinal);
+      }
+      return changed;
+   } // change
+
+   /************************************************************************
+    * edgeTarget - This method returns the node the given edge leads to.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private int edgeTarget (int edge)
+   {
+      return (edge < baseEdgeCount) ? edgeTargets.get (edge)
+            : builtTargets[edge - baseEdgeCount];
+   } // edgeTarget
+
+   /************************************************************************
+    * edgeWord - This method returns the number of words of the given
+    *       edge's node that come before the edge's words.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private int edgeWord (int edge)
+   {
+      return (edge < baseEdgeCount) ? edgeWords.get (edge)
+            : builtEdgeWords[edge - baseEdgeCount];
+   } // edgeWord
+
+   /************************************************************************
+    * finishBranch - This method finishes the nodes of the word deeper than
+    *       the given depth, deepest first, pointing each parent's edge at
+    *       the finished node.
+    *
+    * @return none
+    * @param String, int
+    ************************************************************************/
+   private void finishBranch (String word, int depth)
+   {
+      for (int i = word.length (); i > depth; i--)
+      {
+         pathTargets[i - 1][word.charAt (i - 1) - 'a'] = finishNode (i);
+      }
+   } // finishBranch
+
+   /************************************************************************
+    * finishNode - This method finishes the unfinished node at the given
+    *       depth, all of whose children are finished. If a node with the
+    *       same edges and ending already exists it is used instead;
+    *       otherwise the node is added. The node is returned.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private int finishNode (int depth)
+   {
+      int mask = pathMasks[depth];
+      int[] targets = pathTargets[depth];
+      boolean isFinal = pathFinals[depth];
+      int hash = mask * HASH_MULTIPLIER + (isFinal ? 1 : 0);
+
+      for (int letters = mask; letters != 0; letters &= letters - 1)
+      {
+         hash = (hash + targets[Integer.numberOfTrailingZeros (letters)])
+               * HASH_MULTIPLIER;
+      }
+
+      int slot = (hash >>> 1) & (register.length - 1);
+      int node = NO_NODE;
+
+      while (node == NO_NODE && register[slot] != 0)
+      {
+         if (isSame (register[slot] - 1, mask, targets, isFinal))
+         {
+            node = register[slot] - 1;
+         }
+         slot = (slot + 1) & (register.length - 1);
+      }
+
+      if (node == NO_NODE)
+      {
+         node = newNode (mask, targets, isFinal);
+         insert (node, hash);
+      }
+      return node;
+   } // finishNode
+
+   /************************************************************************
+    * findNodeSums - This method works out the suffix length of every node
+    *       of a format 1 image and the words before every edge. A node's
+    *       children are always added before it, so one pass in node order
+    *       finds each child's length first.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void findNodeSums ()
+   {
+      int[] lengths = new int[nodeCount];
+      int[] words = new int[edgeCount];
+
+      for (int node = 0; node < nodeCount; node++)
+      {
+         int first = firstEdges.get (node);
+         int last = first + Integer.bitCount (childMasks.get (node));
+         int count = isWord (node) ? 1 : 0;
+
+         for (int edge = first; edge < last; edge++)
+         {
+            int target = edgeTargets.get (edge);
+
+            words[edge] = count;
+            count += wordCounts.get (target);
+            lengths[node] = Math.max (lengths[node], lengths[target] + 1);
+         }
+      }
+      suffixLengths = IntBuffer.wrap (lengths);
+      edgeWords = IntBuffer.wrap (words);
+   } // findNodeSums
+
+   /************************************************************************
+    * finalBitsOffset - This method returns where the word-end bits start
+    *       in an image of the given format, after the ints and rounded up
+    *       to a whole long.
+    *
+    * @return int
+    * @param int, int, int
+    ************************************************************************/
+   private static int finalBitsOffset (int nodes, int edges, int version)
+   {
+      int ints = (version == OLD_FORMAT_VERSION) ? 3 * nodes + edges
+            : 4 * nodes + 2 * edges;
+
+      return (HEADER_SIZE + 4 * ints + 7) & ~7;
+   } // finalBitsOffset
+
+   /************************************************************************
+    * firstEdge - This method returns the index of the given node's first
+    *       edge.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private int firstEdge (int node)
+   {
+      return (node < baseNodeCount) ? firstEdges.get (node)
+            : builtFirstEdges[node - baseNodeCount];
+   } // firstEdge
+
+   /************************************************************************
+    * hashOf - This method returns the register hash of a finished node.
+    *
+    * @return int
+    * @param int
+    ************************************************************************/
+   private int hashOf (int node)
+   {
+      int hash = builtMasks[node] * HASH_MULTIPLIER
+            + (isBuiltWord (node) ? 1 : 0);
+
+      for (int edge = builtFirstEdges[node];
+            edge < builtFirstEdges[node] + Integer.bitCount (builtMasks[node]);
+            edge++)
+      {
+         hash = (hash + builtTargets[edge]) * HASH_MULTIPLIER;
+      }
+      return hash;
+   } // hashOf
+
+   /************************************************************************
+    * imageSize - This method returns the size in bytes of the image of a
+    *       graph with the given numbers of nodes and edges, in the given
+    *       format.
+    *
+    * @return int
+    * @param int, int, int
+    ************************************************************************/
+   private static int imageSize (int nodes, int edges, int version)
+   {
+      return finalBitsOffset (nodes, edges, version)
+            + 8 * ((nodes + 63) / 64);
+   } // imageSize
+
+   /************************************************************************
+    * insert - This method adds a finished node to the register, doubling
+    *       the register when it is half full.
+    *
+    * @return none
+    * @param int, int
+    ************************************************************************/
+   private void insert (int node, int hash)
+   {
+      if (2 * nodeCount > register.length)
+      {
+         int[] old = register;
+
+         register = new int[2 * old.length];
+
+         for (int entry : old)
+         {
+            if (entry != 0)
+            {
+               place (entry, hashOf (entry - 1));
+            }
+         }
+      }
+      place (node + 1, hash);
+   } // insert
+
+   /************************************************************************
+    * isBuiltWord - This method returns true if a word ends at the given
+    *       node while the graph is being built.
+    *
+    * @return boolean
+    * @param int
+    ************************************************************************/
+   private boolean isBuiltWord (int node)
+   {
+      return (builtFinals[node >>> 6] & (1L << node)) != 0;
+   } // isBuiltWord
+
+   /************************************************************************
+    * isSame - This method returns true if the finished node has the given
+    *       edges and ending.
+    *
+    * @return boolean
+    * @param int, int, int[], boolean
+    ************************************************************************/
+   private boolean isSame (int node, int mask, int[] targets,
+         boolean isFinal)
+   {
+      boolean same = builtMasks[node] == mask && isBuiltWord (node) == isFinal;
+      int edge = builtFirstEdges[node];
+
+      for (int letters = mask; letters != 0 && same; letters &= letters - 1)
+      {
+         same = builtTargets[edge]
+               == targets[Integer.numberOfTrailingZeros (letters)];
+         edge++;
+      }
+      return same;
+   } // isSame
+
+   /************************************************************************
+    * newNode - This method adds a finished node with the given edges and
+    *       ending, growing the arrays when they are full, and returns it.
+    *
+    * @return int
+    * @param int, int[], boolean
+    ************************************************************************/
+   private int newNode (int mask, int[] targets, boolean isFinal)
+   {
+      int node = nodeCount;
+      int built = node - baseNodeCount;
+      int edge = edgeCount - baseEdgeCount;
+      int edges = Integer.bitCount (mask);
+
+      if (built == builtMasks.length || edge + edges > builtTargets.length)
+      {
+         reserve (Math.max (built, 1), Math.max (edge, edges));
+      }
+
+      int count = isFinal ? 1 : 0;
+      int length = 0;
+
+      builtMasks[built] = mask;
+      builtFirstEdges[built] = edgeCount;
+
+      for (int letters = mask; letters != 0; letters &= letters - 1)
+      {
+         int target = targets[Integer.numberOfTrailingZeros (letters)];
+
+         builtTargets[edge] = target;
+         builtEdgeWords[edge] = count;
+         edge++;
+         count += wordCount (target);
+         length = Math.max (length, suffixLength (target) + 1);
+      }
+      builtCounts[built] = count;
+      builtLengths[built] = length;
+
+      if (isFinal)
+      {
+         builtFinals[built >>> 6] |= 1L << built;
+      }
+      nodeCount++;
+      edgeCount += edges;
+      return node;
+   } // newNode
+
+   /************************************************************************
+    * place - This method puts a register entry in the first free slot
+    *       from its hash.
+    *
+    * @return none
+    * @param int, int
+    ************************************************************************/
+   private void place (int entry, int hash)
+   {
+      int slot = (hash >>> 1) & (register.length - 1);
+
+      while (register[slot] != 0)
+      {
+         slot = (slot + 1) & (register.length - 1);
+      }
+      register[slot] = entry;
+   } // place
+
+   /************************************************************************
+    * reserve - This method makes the built arrays hold the given numbers
+    *       of nodes and edges past those used, and no more. The arrays are
+    *       copied, so arrays shared with another graph are not changed.
+    *
+    * @return none
+    * @param int, int
+    ************************************************************************/
+   private void reserve (int nodes, int edges)
+   {
+      nodes += nodeCount - baseNodeCount;
+      edges += edgeCount - baseEdgeCount;
+      builtMasks = Arrays.copyOf (builtMasks, nodes);
+      builtFirstEdges = Arrays.copyOf (builtFirstEdges, nodes);
+      builtCounts = Arrays.copyOf (builtCounts, nodes);
+      builtLengths = Arrays.copyOf (builtLengths, nodes);
+      builtFinals = Arrays.copyOf (builtFinals, (nodes + 63) / 64);
+      builtTargets = Arrays.copyOf (builtTargets, edges);
+      builtEdgeWords = Arrays.copyOf (builtEdgeWords, edges);
+   } // reserve
+
+   /************************************************************************
+    * section - This method returns the given bytes of an image as a
+    *       little-endian buffer of their own.
+    *
+    * @return ByteBuffer
+    * @param ByteBuffer, int, int
+    ************************************************************************/
+   private static ByteBuffer section (ByteBuffer image, int offset,
+         int bytes)
+   {
+      ByteBuffer section = image.duplicate ();
+
+      section.position (offset);
+      section.limit (offset + bytes);
+      return section.slice ().order (ByteOrder.LITTLE_ENDIAN);
+   } // section
+
+   /************************************************************************
+    * wrapArrays - This method shrinks the arrays built to the nodes and
+    *       edges used and makes them the graph's buffers.
+    *
+    * @return none
+    * @param none
+    ************************************************************************/
+   private void wrapArrays ()
+   {
+      reserve (0, 0);
+      childMasks = IntBuffer.wrap (builtMasks);
+      firstEdges = IntBuffer.wrap (builtFirstEdges);
+      wordCounts = IntBuffer.wrap (builtCounts);
+      suffixLengths = IntBuffer.wrap (builtLengths);
+      finalBits = LongBuffer.wrap (builtFinals);
+      edgeTargets = IntBuffer.wrap (builtTargets);
+      edgeWords = IntBuffer.wrap (builtEdgeWords);
+      baseNodeCount = nodeCount;
+      baseEdgeCount = edgeCount;
+      builtMasks = null;
+      builtFirstEdges = null;
+      builtCounts = null;
+      builtLengths = null;
+      builtFinals = null;
+      builtTargets = null;
+      builtEdgeWords = null;
+   } // wrapArrays
+
+   /************************************************************************
+    * writeImage - This method writes the graph's buffers to a file as an
+    *       image, as write describes.
+    *
+    * @return none
+    * @param String
+    ************************************************************************/
+   private void writeImage (String fileName) throws IOException
+   {
+      ByteBuffer image = ByteBuffer.allocate (imageSize (nodeCount,
+            edgeCount, FORMAT_VERSION)).order (ByteOrder.LITTLE_ENDIAN);
+
+      image.position (HEADER_SIZE);
+
+      for (IntBuffer ints : new IntBuffer[] {childMasks, firstEdges,
+            wordCounts, suffixLengths, edgeTargets, edgeWords})
+      {
+         for (int i = 0; i < ints.capacity (); i++)
+         {
+            image.putInt (ints.get (i));
+         }
+      }
+      image.position (finalBitsOffset (nodeCount, edgeCount,
+            FORMAT_VERSION));
+
+      for (int i = 0; i < finalBits.capacity (); i++)
+      {
+         image.putLong (finalBits.get (i));
+      }
+
+      CRC32 checksum = new CRC32 ();
+      checksum.update (image.array (), HEADER_SIZE,
+            image.capacity () - HEADER_SIZE);
+      image.putInt (0, MAGIC);
+      image.putInt (4, FORMAT_VERSION);
+      image.putInt (8, nodeCount);
+      image.putInt (12, edgeCount);
+      image.putInt (16, root);
+      image.putInt (20, size ());
+      image.putLong (24, checksum.getValue ());
+      image.rewind ();
+
+      Path file = Paths.get (fileName);
+      Path newFile = Paths.get (fileName + ".new");
+      FileChannel channel = FileChannel.open (newFile,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+
+      try
+      {
+         while (image.hasRemaining ())
+         {
+            channel.write (image);
+         }
+         channel.force (true);
+      }
+      finally
+      {
+         channel.close ();
+      }
+      Files.move (newFile, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+   } // writeImage
+
+   /*
+    * private classes*****************
+    */
+
+   /************************************************************************
+    * WordIterator - This class iterates over the words below a node in
+    *       alphabetical order, keeping the path from the node as a stack of
+    *       nodes and of the letters still to try at each.
+    ************************************************************************/
+   private class WordIterator implements Iterator<String>
+   {
+      private final StringBuffer word;
+      private final int startLength;
+      private int[] nodes = new int[16];
+      private int[] letters = new int[16];
+      private int depth = 0;
+      private boolean ready = false;   // word holds the next word
+
+      public WordIterator (String prefix, int node)
+      {
+         word = new StringBuffer (prefix);
+         startLength = prefix.length ();
+         depth = (node == NO_NODE) ? -1 : 0;
+
+         if (node != NO_NODE)
+         {
+            nodes[0] = node;
+            letters[0] = childLetters (node);
+            ready = isWord (node);
+         }
+      }
+
+      public boolean hasNext ()
+      {
+         while (!ready && depth >= 0)
+         {
+            if (letters[depth] == 0)
+            {
+               depth--;
+
+               if (depth >= 0)
+               {
+                  word.setLength (startLength + depth);
+               }
+            }
+            else
+            {
+               int letter = Integer.numberOfTrailingZeros (letters[depth]);
+               int child = child (nodes[depth], (char) ('a' + letter));
+
+               letters[depth] &= letters[depth] - 1;
+               depth++;
+
+               if (depth == nodes.length)
+               {
+                  nodes = Arrays.copyOf (nodes, 2 * depth);
+                  letters = Arrays.copyOf (letters, 2 * depth);
+               }
+               nodes[depth] = child;
+               letters[depth] = childLetters (child);
+               word.append ((char) ('a' + letter));
+               ready = isWord (child);
+            }
+         }
+         return ready;
+      }
+
+      public String next ()
+      {
+         if (!hasNext ())
+         {
+            throw new NoSuchElementException ();
+         }
+         ready = false;
+         return word.toString ();
+      }
+
+   } // WordIterator
+
+} // WordGraph
@@ -0,0 +1,269 @@
+package utilities;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/***************************************************************************
+ * WordJournal - This class keeps a file of the changes made to a word
+ *       list, which is only ever added to. Each change is a line holding
+ *       '+' and a word that was added or '-' and a word that was removed.
+ *       Changes are written in batches that end with a line holding '.',
+ *       and each batch is forced to the disk before append returns. A
+ *       batch cut short by a crash has no '.' after it and is ignored when
+ *       the journal is read, so a crash loses at most the batch being
+ *       written. The next batch written cuts such a batch off the file
+ *       first, so it is never joined to the changes after it. The file is
+ *       written and read as UTF-8.
+ *
+ *       Reading the changes in order over the word list they were made to
+ *       gives the words as they were after the last batch. Since the last
+ *       change to a word decides whether it is in the list, reading them
+ *       again over a list that already has them changes nothing.
+ *
+ * @author Alexander Anderson
+ * @version 1.0 (October 18, 2026)
+ *
+ * Acknowledgements: I acknowledge that I have neither given nor
+ *          received assistance for this assignment except as noted below:
+ *
+ *          None
+ *
+ * Modifications: None
+ ***************************************************************************/
+
+public class WordJournal
+{
+
+   /*
+    * public static attributes***************************
+    */
+
+   public static final char ADDED = '+';
+   public static final char REMOVED = '-';
+
+   /*
+    * private static attributes****************************
+    */
+
+   private static final String END_OF_BATCH = ".";
+
+   /*
+    * attributes*************
+    */
+
+   private final String fileName;
+   private int changeCount = 0;   // changes in the file
+   private long batchesLength = -1;  // bytes of complete batches, or -1
+                                     // until the file is read
+
+   /*
+    * constructors***************
+    */
+
+   /************************************************************************
+    * WordJournal - This method constructs a WordJournal kept in the named
+    *       file, which is made when the first batch is written.
+    *
+    * @param String
+    ************************************************************************/
+   public WordJournal (String fileName)
+   {
+      this.fileName = fileName;
+   } // WordJournal
+
+   /*
+    * public methods*****************
+    */
+
+   /************************************************************************
+    * append - This method writes a batch of changes, each ADDED or REMOVED
+    *       followed by the word, to the end of the journal and forces it to
+    *       the disk.
+    *
+    * @return none
+    * @param List<String>
+    ************************************************************************/
+   public synchronized void append (List<String> changes) throws IOException
+   {
+      if (batchesLength < 0)
+      {
+         read ();
+      }
+      batchesLength = write (fileName, changes, true);
+      changeCount += changes.size ();
+   } // append
+
+   /************************************************************************
+    * getChangeCount - This method returns the number of changes in the
+    *       journal, as of the last read, append or reset.
+    *
+    * @return int
+    * @param none
+    ************************************************************************/
+   public synchronized int getChangeCount ()
+   {
+      return changeCount;
+   } // getChangeCount
+
+   /************************************************************************
+    * read - This method returns the changes of every complete batch in the
+    *       journal, in the order they were made, and notes where the last
+    *       of them ends. A journal that does not exist has no changes.
+    *
+    * @return ArrayList<String>
+    * @param none
+    ************************************************************************/
+   public synchronized ArrayList<String> read () throws IOException
+   {
+      ArrayList<String> changes = new ArrayList<String> ();
+      long length = 0;   // bytes read up to the end of the last line
+      long batchesEnd = 0;
+
+      try
+      {
+         BufferedReader reader = new BufferedReader (new InputStreamReader (
+               new FileInputStream (fileName), "UTF-8"));
+         ArrayList<String> batch = new ArrayList<String> ();
+         StringBuilder text = new StringBuilder ();
+         int c;
+
+         try
+         {
+            // A line without its end is the start of a batch cut short
+            while ((c = reader.read ()) != -1)
+            {
+               if (c == '\n')
+               {
+                  String line = lineOf (text);
+
+                  length += text.toString ().getBytes ("UTF-8").length + 1;
+
+                  if (line.equals (END_OF_BATCH))
+                  {
+                     changes.addAll (batch);
+                     batch.clear ();
+                     batchesEnd = length;
+                  }
+                  else if (line.length () > 1 && (line.charAt (0) == ADDED
+                        || line.charAt (0) == REMOVED))
+                  {
+                     batch.add (line);
+                  }
+                  text.setLength (0);
+               }
+               else
+               {
+                  text.append ((char) c);
+               }
+            }
+         }
+         finally
+         {
+            reader.close ();
+         }
+      }
+      catch (FileNotFoundException e)
+      {
+         // no journal yet, so no changes
+      }
+      changeCount = changes.size ();
+      batchesLength = batchesEnd;
+      return changes;
+   } // read
+
+   /************************************************************************
+    * reset - This method replaces the journal with one holding just the
+    *       given batch of changes, which may be empty. It is used once the
+    *       changes have been saved in the word list itself. The new journal
+    *       is written next to the old one and moved over it, so a crash
+    *       leaves one or the other.
+    *
+    * @return none
+    * @param List<String>
+    ************************************************************************/
+   public synchronized void reset (List<String> changes) throws IOException
+   {
+      long length = write (fileName + ".new", changes, false);
+
+      Files.move (Paths.get (fileName + ".new"), Paths.get (fileName),
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      batchesLength = length;
+      changeCount = changes.size ();
+   } // reset
+
+   /*
+    * private methods*****************
+    */
+
+   /************************************************************************
+    * lineOf - This method returns the text of a line without the carriage
+    *       return that may end it.
+    *
+    * @return String
+    * @param StringBuilder
+    ************************************************************************/
+   private String lineOf (StringBuilder text)
+   {
+      int end = text.length ();
+
+      if (end > 0 && text.charAt (end - 1) == '\r')
+      {
+         end--;
+      }
+      return text.substring (0, end);
+   } // lineOf
+
+   /************************************************************************
+    * write - This method writes a batch of changes and its end, adding to
+    *       or replacing the named file, forces it to the disk and returns
+    *       its length. When adding, anything after the last complete batch
+    *       is cut off first.
+    *
+    * @return long
+    * @param String, List<String>, boolean
+    ************************************************************************/
+   private long write (String name, List<String> changes, boolean append)
+         throws IOException
+   {
+      FileOutputStream file = new FileOutputStream (name, append);
+
+      try
+      {
+         if (append && file.getChannel ().size () > batchesLength)
+         {
+            file.getChannel ().truncate (batchesLength);
+         }
+
+         BufferedWriter writer = new BufferedWriter (new OutputStreamWriter (
+               file, "UTF-8"));
+
+         for (String change : changes)
+         {
+            writer.write (change);
+            writer.newLine ();
+         }
+         writer.write (END_OF_BATCH);
+         writer.newLine ();
+         writer.flush ();
+         file.getFD ().sync ();
+         return file.getChannel ().size ();
+      }
+      finally
+      {
+         file.close ();
+      }
+   } // write
+
+} // WordJournal
@@ -9,6 +9,8 @@ import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -24,6 +26,7 @@ import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
 import javax.swing.JRadioButton;
+import javax.swing.JRadioButtonMenuItem;
 import javax.swing.JScrollPane;
 import javax.swing.JSeparator;
 import javax.swing.JSpinner;
@@ -57,7 +60,11 @@ import model.Board;
  * 
  *          None
  * 
- * Modifications: None
+ * Modifications: 10/18/2026 - Added a board size menu; the board panel
+ *                             sizes itself from the game's board.
+ *                10/18/2026 - The word lists are BitSets of dictionary word
+ *                             ordinals; the words are only looked up to
+ *                             display them. Invalid words stay strings.
  ***************************************************************************/
 
 public class BoggleGUI extends JFrame
@@ -79,10 +86,11 @@ public class BoggleGUI extends JFrame
    private int computerTotalScore = 0;
    private int humanTotalScore = 0;
    private int pointsNeededToWin = 100;
+   private int boardSize = Board.DEFAULT_SIZE;
    
-   private StringSet humanWordsFound = new StringSet ();
-   private StringSet computerWordsFound = new StringSet ();
-   private StringSet commonWordsFound = new StringSet ();
+   private BitSet humanWordsFound = new BitSet ();
+   private BitSet computerWordsFound = new BitSet ();
+   private BitSet commonWordsFound = new BitSet ();
    private StringSet invalidWordsFound = new StringSet ();
            
    /************************************************************************
@@ -95,7 +103,7 @@ public class BoggleGUI extends JFrame
    {
       super ("Welcome to Boggle!");              
       this.dictionary = dictionary;
-      game = new Game (dictionary);
+      game = new Game (dictionary, boardSize, boardSize);
       
       setLayout (new BorderLayout());
       setUpMenuBar ();
@@ -111,6 +119,20 @@ public class BoggleGUI extends JFrame
     * private methods*****************
     */
 
+   /************************************************************************
+    * difference - This method returns the words in the first set that are
+    *       not in the second.
+    * 
+    * @return BitSet
+    * @param BitSet, BitSet
+    ************************************************************************/
+   private static BitSet difference (BitSet words, BitSet otherWords)
+   {
+      BitSet differentWords = (BitSet) words.clone ();
+      differentWords.andNot (otherWords);
+      return differentWords;
+   } // difference
+
    /************************************************************************
     * endRound - This method ends a Boggle round - the scores are tabulated
     *       and displayed.
@@ -120,18 +142,18 @@ public class BoggleGUI extends JFrame
     ************************************************************************/
    private void endRound ()
    {      
-      StringSet humanWordsEntered = game.getHumanWordsFound ();
+      BitSet humanWordsEntered = game.getHumanWordsFound ();
       invalidWordsFound = game.getInvalidWordsFound ();
 
       game.computerTurn ();
       
-      StringSet computerWordsEntered = game.getComputerWordsFound ();
-      computerWordsFound = computerWordsEntered.difference 
-            (humanWordsEntered);
-      commonWordsFound = computerWordsEntered.intersection 
-            (humanWordsEntered);
-      humanWordsFound = humanWordsEntered.difference 
-            (computerWordsEntered);
+      BitSet computerWordsEntered = game.getComputerWordsFound ();
+      computerWordsFound = difference (computerWordsEntered,
+            humanWordsEntered);
+      commonWordsFound = intersection (computerWordsEntered,
+            humanWordsEntered);
+      humanWordsFound = difference (humanWordsEntered,
+            computerWordsEntered);
       
       resultsPanel.endRound ();
       
@@ -155,11 +177,24 @@ public class BoggleGUI extends JFrame
       resultsPanel.gameOver (winner);
       
       // Set up for a new game
-      game = new Game (dictionary);
+      game = new Game (dictionary, boardSize, boardSize);
       computerTotalScore = 0;
       humanTotalScore = 0;
    } // gameOver
 
+   /************************************************************************
+    * intersection - This method returns the words in both sets.
+    * 
+    * @return BitSet
+    * @param BitSet, BitSet
+    ************************************************************************/
+   private static BitSet intersection (BitSet words, BitSet otherWords)
+   {
+      BitSet commonWords = (BitSet) words.clone ();
+      commonWords.and (otherWords);
+      return commonWords;
+   } // intersection
+
    /************************************************************************
     * newGame - This method starts a new Boggle game.
     * 
@@ -168,14 +203,14 @@ public class BoggleGUI extends JFrame
     ************************************************************************/
    private void newGame ()
    {
-      game = new Game (dictionary);
+      game = new Game (dictionary, boardSize, boardSize);
       computerTotalScore = 0;
       humanTotalScore = 0;
       
       // Clear word lists
-      humanWordsFound = new StringSet ();
-      computerWordsFound = new StringSet ();
-      commonWordsFound = new StringSet ();
+      humanWordsFound = new BitSet ();
+      computerWordsFound = new BitSet ();
+      commonWordsFound = new BitSet ();
       invalidWordsFound = new StringSet ();
       
       // Update the panels for a new game.
@@ -196,9 +231,9 @@ public class BoggleGUI extends JFrame
       game.newRound ();
       
       // Clear word lists
-      humanWordsFound = new StringSet ();
-      computerWordsFound = new StringSet ();
-      commonWordsFound = new StringSet ();
+      humanWordsFound = new BitSet ();
+      computerWordsFound = new BitSet ();
+      commonWordsFound = new BitSet ();
       invalidWordsFound = new StringSet ();
       
       if (game.getRound () == 1)
@@ -238,14 +273,10 @@ public class BoggleGUI extends JFrame
    {
       game.rejectWords (rejectedWords);
       
-      computerWordsFound = computerWordsFound.difference 
-            (game.getComputerWordsRejected ());
-      humanWordsFound = humanWordsFound.difference 
-            (game.getHumanWordsRejected ());
-      commonWordsFound = commonWordsFound.difference 
-            (game.getHumanWordsRejected ());
-      commonWordsFound = commonWordsFound.difference 
-            (game.getComputerWordsRejected ());
+      computerWordsFound.andNot (game.getComputerWordsRejected ());
+      humanWordsFound.andNot (game.getHumanWordsRejected ());
+      commonWordsFound.andNot (game.getHumanWordsRejected ());
+      commonWordsFound.andNot (game.getComputerWordsRejected ());
       
       // Compute Scores
       int computerRoundScore = game.getRoundScore (computerWordsFound);
@@ -298,6 +329,31 @@ public class BoggleGUI extends JFrame
       };
       newRound.addActionListener (newRoundListener);
 
+      // Board Size
+      JMenu boardSizeMenu = new JMenu ("Board Size");
+      boardSizeMenu.setMnemonic ('B');
+      gameMenu.add (boardSizeMenu);
+      ButtonGroup boardSizeButtons = new ButtonGroup ();
+      ActionListener boardSizeListener = new ActionListener ()
+      {
+         public void actionPerformed (ActionEvent event)
+         {
+            boardSize = Integer.parseInt (event.getActionCommand ());
+            newGame ();
+         }
+      };
+
+      for (int size = 4; size <= 6; size++)
+      {
+         JRadioButtonMenuItem sizeItem = new JRadioButtonMenuItem 
+               (size + " x " + size);
+         sizeItem.setActionCommand (String.valueOf (size));
+         sizeItem.setSelected (size == boardSize);
+         sizeItem.addActionListener (boardSizeListener);
+         boardSizeButtons.add (sizeItem);
+         boardSizeMenu.add (sizeItem);
+      }
+
       // Quit
       JMenuItem quitGame = new JMenuItem ("Quit");
       gameMenu.add (quitGame);
@@ -335,6 +391,44 @@ public class BoggleGUI extends JFrame
       contentPane.add (scoringPanel, BorderLayout.SOUTH);
       contentPane.add (resultsPanel, BorderLayout.CENTER);
    } // setUpPanels
+
+   /************************************************************************
+    * wordsOf - This method looks up the words with the given dictionary
+    *       ordinals and returns them in alphabetical order for display.
+    * 
+    * @return String[]
+    * @param BitSet
+    ************************************************************************/
+   private String[] wordsOf (BitSet ordinals)
+   {
+      String[] words = new String[ordinals.cardinality ()];
+      int i = 0;
+
+      for (int ordinal = ordinals.nextSetBit (0); ordinal >= 0;
+            ordinal = ordinals.nextSetBit (ordinal + 1))
+      {
+         words[i] = game.wordAt (ordinal);
+         i++;
+      }
+      Arrays.sort (words);
+      return words;
+   } // wordsOf
+
+   /************************************************************************
+    * wordsOf - This method returns the words of a set in alphabetical order
+    *       for display.
+    * 
+    * @return String[]
+    * @param StringSet
+    ************************************************************************/
+   private String[] wordsOf (StringSet wordSet)
+   {
+      ArrayList<String> wordList = wordSet.getWordList ();
+      String[] words = wordList.toArray (new String[wordList.size ()]);
+
+      Arrays.sort (words);
+      return words;
+   } // wordsOf
                    
 
    /*
@@ -789,7 +883,7 @@ public class BoggleGUI extends JFrame
       private class BoardPanel extends JPanel
       {
          private static final long serialVersionUID = 1L;
-         private LetterPanel letters[][] = new LetterPanel[4][4];
+         private LetterPanel letters[][] = new LetterPanel[0][0];
          
          /************************************************************************
           * BoardPanel Constructor
@@ -799,7 +893,6 @@ public class BoggleGUI extends JFrame
           ************************************************************************/
          public BoardPanel ()
          {
-            setLayout (new GridLayout(4, 4, 10, 10));      
             setBackground (BACKGROUND_COLOR);
             
             setupPanel ();
@@ -815,9 +908,11 @@ public class BoggleGUI extends JFrame
           ************************************************************************/
          public void newGame ()
          {
-            for (int i = 0; i < 4; i++)
+            setupPanel ();
+
+            for (int i = 0; i < letters.length; i++)
             {
-               for (int j = 0; j < 4; j++)
+               for (int j = 0; j < letters[i].length; j++)
                {
                   letters[i][j].setLetter ('X');
                }
@@ -835,10 +930,11 @@ public class BoggleGUI extends JFrame
          public void newRound ()
          {
             Board board = game.getBoard ();
+            setupPanel ();
             
-            for (int i = 0; i < 4; i++)
+            for (int i = 0; i < letters.length; i++)
             {
-               for (int j = 0; j < 4; j++)
+               for (int j = 0; j < letters[i].length; j++)
                {
                   letters[i][j].setLetter (board.getLetter (i, j));
                }
@@ -847,22 +943,35 @@ public class BoggleGUI extends JFrame
          }
 
          /************************************************************************
-          * setupPanel - this method sets up the board panel.
+          * setupPanel - this method sets up the board panel with one letter
+          *       panel for each cell of the game's board. The letter panels
+          *       are only replaced when the size of the board changes.
           * 
           * @return none
           * @param none
           ************************************************************************/
          private void setupPanel ()
          {
-            for (int i = 0; i < 4; i++)
+            Board board = game.getBoard ();
+            int rows = board.getRows ();
+            int columns = board.getColumns ();
+
+            if (letters.length != rows || letters[0].length != columns)
             {
-               for (int j = 0; j < 4; j++)
+               removeAll ();
+               setLayout (new GridLayout (rows, columns, 10, 10));
+               letters = new LetterPanel[rows][columns];
+
+               for (int i = 0; i < rows; i++)
                {
-                  //char letter = board.getLetter (i, j);
-                  char letter = 'X';
-                  letters[i][j] = new LetterPanel(letter);
-                  this.add (letters[i][j]);
+                  for (int j = 0; j < columns; j++)
+                  {
+                     char letter = 'X';
+                     letters[i][j] = new LetterPanel(letter);
+                     this.add (letters[i][j]);
+                  }
                }
+               revalidate ();
             }
          }
       } // BoardPanel
@@ -1191,10 +1300,10 @@ public class BoggleGUI extends JFrame
           ************************************************************************/
          public void updateWordLists ()
          {
-            humanWordList.addWords (humanWordsFound);
-            computerWordList.addWords (computerWordsFound);
-            commonWordList.addWords (commonWordsFound);
-            invalidWordList.addWords (invalidWordsFound);
+            humanWordList.addWords (wordsOf (humanWordsFound));
+            computerWordList.addWords (wordsOf (computerWordsFound));
+            commonWordList.addWords (wordsOf (commonWordsFound));
+            invalidWordList.addWords (wordsOf (invalidWordsFound));
             
             this.paintImmediately (this.getVisibleRect());
          }
@@ -1265,18 +1374,12 @@ public class BoggleGUI extends JFrame
           * addWords - this method adds words to the list
           * 
           * @return none
-          * @param StringSet
+          * @param String[]
           ************************************************************************/
-         public void addWords (StringSet words)
+         public void addWords (String[] words)
          {
-            wordList = words.getWordList ();
-            String[] wordArray = new String[wordList.size ()];
-            
-            for (int i = 0; i < wordList.size (); i++)
-            {
-               wordArray[i] = wordList.get (i);
-            }
-            wordJList.setListData (wordArray);
+            wordList = new ArrayList<String> (Arrays.asList (words));
+            wordJList.setListData (words);
             this.paintImmediately (this.getVisibleRect());
          }
          